@@ -0,0 +1,206 @@
+package com.pluxity.authentication.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리프레시 토큰 저장소. 토큰은 SHA-256 해시를 키로 직접 저장하므로 검증은 {@code GET} 한 번이며, 보조 인덱스 없이 Redis TTL 로 만료됩니다.
+ *
+ * <ul>
+ *   <li>{@code refresh-token:token:<hash>} → 사용자 아이디
+ *   <li>{@code refresh-token:user:<username>} → 사용자의 현재 토큰 해시 (사용자당 하나의 세션, 로그인 여부 조회용)
+ * </ul>
+ *
+ * <p>저장, 교체, 삭제는 Lua 스크립트로 두 키를 원자적으로 갱신하므로 같은 리프레시 토큰으로 동시에 재발급을 요청해도 한 요청만 성공합니다.
+ *
+ * <p>이전 {@code @RedisHash("refresh_token")} 형식으로 저장된 세션도 교체, 삭제, 로그인 여부 조회에서 함께 인정하며, 교체 시 새 형식으로
+ * 옮기고 이전 키는 지웁니다. 이전 세션은 리프레시 토큰 만료 기간({@code jwt.refresh-token.expiration})이 지나면 모두 만료되므로, 배포 후 그
+ * 기간이 지나면 레거시 처리를 제거합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:token:";
+    private static final String USER_KEY_PREFIX = "refresh-token:user:";
+    private static final String LEGACY_KEY_PREFIX = "refresh_token:";
+
+    /**
+     * 이전 {@code @RedisHash("refresh_token")} 형식의 세션을 다루는 Lua 함수. 해시 {@code refresh_token:<username>} 의 token 필드가
+     * 실제 토큰이고, {@code refresh_token:token:<token>} 집합은 만료 후에도 남을 수 있으므로 해시와 대조해 확인합니다.
+     */
+    private static final String LEGACY_FUNCTIONS =
+            """
+            local function legacyOwner(token)
+                for _, username in ipairs(redis.call('SMEMBERS', 'refresh_token:token:' .. token)) do
+                    if redis.call('HGET', 'refresh_token:' .. username, 'token') == token then
+                        return username
+                    end
+                end
+                return nil
+            end
+            local function dropLegacy(username)
+                local hashKey = 'refresh_token:' .. username
+                local token = redis.call('HGET', hashKey, 'token')
+                if token then
+                    redis.call('SREM', 'refresh_token:token:' .. token, username)
+                end
+                redis.call('DEL', hashKey, hashKey .. ':idx', hashKey .. ':phantom')
+                redis.call('SREM', 'refresh_token', username)
+            end
+            """;
+
+    /** KEYS[1]=새 토큰 키, KEYS[2]=사용자 키 / ARGV[1]=사용자 아이디, ARGV[2]=새 토큰 해시, ARGV[3]=TTL(초) */
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(
+                    LEGACY_FUNCTIONS
+                            + """
+                            local previous = redis.call('GET', KEYS[2])
+                            if previous then
+                                redis.call('DEL', '%s' .. previous)
+                            end
+                            dropLegacy(ARGV[1])
+                            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+                            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+                            return 1
+                            """
+                                    .formatted(TOKEN_KEY_PREFIX),
+                    Long.class);
+
+    /**
+     * KEYS[1]=기존 토큰 키, KEYS[2]=새 토큰 키 / ARGV[1]=새 토큰 해시, ARGV[2]=TTL(초), ARGV[3]=기존 토큰. 기존 토큰이 새 형식에도 이전
+     * 형식에도 없으면 아무것도 바꾸지 않고 nil 을 반환합니다.
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT =
+            RedisScript.of(
+                    LEGACY_FUNCTIONS
+                            + """
+                            local username = redis.call('GET', KEYS[1])
+                            if username then
+                                redis.call('DEL', KEYS[1])
+                            else
+                                username = legacyOwner(ARGV[3])
+                                if not username then
+                                    return nil
+                                end
+                            end
+                            dropLegacy(username)
+                            redis.call('SET', KEYS[2], username, 'EX', ARGV[2])
+                            redis.call('SET', '%s' .. username, ARGV[1], 'EX', ARGV[2])
+                            return username
+                            """
+                                    .formatted(USER_KEY_PREFIX),
+                    String.class);
+
+    /** KEYS[1]=토큰 키 / ARGV[1]=토큰 해시, ARGV[2]=토큰. 사용자 키가 같은 토큰을 가리킬 때만 함께 삭제합니다. */
+    private static final RedisScript<Long> DELETE_SCRIPT =
+            RedisScript.of(
+                    LEGACY_FUNCTIONS
+                            + """
+                            local username = redis.call('GET', KEYS[1])
+                            if not username then
+                                local legacyUsername = legacyOwner(ARGV[2])
+                                if not legacyUsername then
+                                    return 0
+                                end
+                                dropLegacy(legacyUsername)
+                                return 1
+                            end
+                            redis.call('DEL', KEYS[1])
+                            local userKey = '%s' .. username
+                            if redis.call('GET', userKey) == ARGV[1] then
+                                redis.call('DEL', userKey)
+                            end
+                            return 1
+                            """
+                                    .formatted(USER_KEY_PREFIX),
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /** 사용자의 리프레시 토큰을 저장합니다. 이전에 발급된 토큰은 함께 폐기됩니다. */
+    public void save(String username, String token, long timeToLiveSeconds) {
+        String hash = hash(token);
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + hash, USER_KEY_PREFIX + username),
+                username,
+                hash,
+                String.valueOf(timeToLiveSeconds));
+    }
+
+    /**
+     * 기존 토큰을 폐기하고 새 토큰으로 원자적으로 교체합니다.
+     *
+     * @return 교체에 성공하면 토큰 소유자의 아이디, 기존 토큰이 없거나 이미 사용되었으면 빈 값
+     */
+    public Optional<String> rotate(String oldToken, String newToken, long timeToLiveSeconds) {
+        String newHash = hash(newToken);
+        return Optional.ofNullable(
+                redisTemplate.execute(
+                        ROTATE_SCRIPT,
+                        List.of(TOKEN_KEY_PREFIX + hash(oldToken), TOKEN_KEY_PREFIX + newHash),
+                        newHash,
+                        String.valueOf(timeToLiveSeconds),
+                        oldToken));
+    }
+
+    public void delete(String token) {
+        String hash = hash(token);
+        redisTemplate.execute(DELETE_SCRIPT, List.of(TOKEN_KEY_PREFIX + hash), hash, token);
+    }
+
+    /**
+     * 주어진 사용자 중 리프레시 토큰이 남아 있는(로그인 중인) 사용자 아이디를 한 번의 파이프라인 요청으로 조회합니다. 이전 형식의 세션 해시가 남아
+     * 있는 사용자도 로그인 중으로 봅니다.
+     */
+    public Set<String> findLoggedInUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> orderedUsernames = List.copyOf(usernames);
+        List<Object> results =
+                redisTemplate.executePipelined(
+                        (RedisCallback<Object>)
+                                connection -> {
+                                    for (String username : orderedUsernames) {
+                                        connection
+                                                .keyCommands()
+                                                .exists(
+                                                        (USER_KEY_PREFIX + username).getBytes(StandardCharsets.UTF_8),
+                                                        (LEGACY_KEY_PREFIX + username).getBytes(StandardCharsets.UTF_8));
+                                    }
+                                    return null;
+                                });
+
+        Set<String> loggedIn = new HashSet<>();
+        for (int i = 0; i < orderedUsernames.size(); i++) {
+            if (results.get(i) instanceof Long count && count > 0) {
+                loggedIn.add(orderedUsernames.get(i));
+            }
+        }
+        return loggedIn;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.pluxity.authentication.security;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * JWT 인증 필터가 사용하는 불변 인증 주체. 사용자 아이디와 권한만 보관하며 비밀번호나 엔티티 참조를 갖지 않아 캐시에 안전하게 보관할 수 있습니다.
+ */
+public record AuthenticatedPrincipal(String username, List<GrantedAuthority> authorities)
+        implements UserDetails {
+
+    public AuthenticatedPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static AuthenticatedPrincipal from(CustomUserDetails userDetails) {
+        return new AuthenticatedPrincipal(
+                userDetails.getUsername(),
+                userDetails.getAuthorities().stream()
+                        .<GrantedAuthority>map(
+                                authority -> new SimpleGrantedAuthority(authority.getAuthority()))
+                        .toList());
+    }
+
+    public static AuthenticatedPrincipal of(String username, Collection<String> authorities) {
+        return new AuthenticatedPrincipal(
+                username, authorities.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package com.pluxity.authentication.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.global.response.ErrorResponseBody;
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,13 +11,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,7 +26,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserDetailsService userDetailsService;
+    /** 검증된 Claims 로부터 인증 주체를 만듭니다. */
+    private final Function<Claims, UserDetails> principalResolver;
 
     @Override
     protected void doFilterInternal(
@@ -38,9 +40,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             Optional.of(request)
                     .filter(this::authenticationRequired)
                     .map(jwtProvider::getAccessTokenFromRequest)
-                    .filter(jwtProvider::isAccessTokenValid)
-                    .map(jwtProvider::extractUsername)
-                    .map(userDetailsService::loadUserByUsername)
+                    .map(jwtProvider::validateAccessToken)
+                    .map(principalResolver)
                     .ifPresent(userDetails -> setAuthenticationContext(request, userDetails));
 
         } catch (CustomException e) {
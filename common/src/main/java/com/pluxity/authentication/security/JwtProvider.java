@@ -2,22 +2,30 @@ package com.pluxity.authentication.security;
 
 import static com.pluxity.global.constant.ErrorCode.*;
 
-import com.pluxity.authentication.entity.RefreshToken;
-import com.pluxity.authentication.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.pluxity.global.exception.CustomException;
+import com.pluxity.user.entity.Role;
+import com.pluxity.user.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +37,11 @@ import org.springframework.web.util.WebUtils;
 @Slf4j
 public class JwtProvider {
 
+    private static final int CLAIMS_CACHE_MAXIMUM_SIZE = 10_000;
+
+    public static final String AUTHORITIES_CLAIM = "roles";
+    public static final String SECURITY_VERSION_CLAIM = "sv";
+
     @Value("${jwt.access-token.name}")
     private String ACCESS_TOKEN;
 
@@ -38,22 +51,34 @@ public class JwtProvider {
     @Value("${jwt.access-token.expiration}")
     private long accessExpiration;
 
+    /** true 이면 액세스 토큰에 권한 목록과 보안 버전을 담아, 인증 필터가 사용자 조회 없이 인증 주체를 만들 수 있게 합니다. */
+    @Value("${jwt.access-token.embed-authorities:false}")
+    private boolean embedAuthorities;
+
     @Value("${jwt.refresh-token.secret}")
     private String refreshSecretKey;
 
     @Value("${jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private SecretKey accessKey;
+    private SecretKey refreshKey;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
 
-    public JwtProvider(RefreshTokenRepository refreshTokenRepository) {
-        this.refreshTokenRepository = refreshTokenRepository;
-    }
+    /** 검증된 액세스 토큰의 Claims. 키는 토큰의 SHA-256 해시이며, 각 항목은 토큰 만료 시각에 맞춰 제거됩니다. */
+    private final Cache<String, Claims> accessClaimsCache =
+            Caffeine.newBuilder()
+                    .maximumSize(CLAIMS_CACHE_MAXIMUM_SIZE)
+                    .expireAfter(new ClaimsExpiry())
+                    .build();
 
     @PostConstruct
     protected void init() {
-        accessSecretKey = Base64.getEncoder().encodeToString(accessSecretKey.getBytes());
-        refreshSecretKey = Base64.getEncoder().encodeToString(refreshSecretKey.getBytes());
+        accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecretKey));
+        refreshKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecretKey));
+        accessTokenParser = Jwts.parser().verifyWith(accessKey).build();
+        refreshTokenParser = Jwts.parser().verifyWith(refreshKey).build();
     }
 
     public String extractUsername(String token) {
@@ -71,11 +96,24 @@ public class JwtProvider {
     }
 
     private Claims extractAllClaims(String token, final boolean isRefreshToken) {
-        return Jwts.parser()
-                .verifyWith(getSecretKey(isRefreshToken))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (!isRefreshToken) {
+            Claims cached = accessClaimsCache.getIfPresent(hash(token));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return getParser(isRefreshToken).parseSignedClaims(token).getPayload();
+    }
+
+    public String generateAccessToken(User user) {
+        if (!embedAuthorities) {
+            return generateAccessToken(user.getUsername());
+        }
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(AUTHORITIES_CLAIM, user.getRoles().stream().map(Role::getAuthority).toList());
+        claims.put(SECURITY_VERSION_CLAIM, user.getSecurityVersion());
+        return generateAccessToken(claims, user.getUsername());
     }
 
     public String generateAccessToken(String username) {
@@ -104,11 +142,25 @@ public class JwtProvider {
                 .compact();
     }
 
-    public boolean isAccessTokenValid(String token) {
-        try {
-            Jwts.parser().verifyWith(getSecretKey(false)).build().parseSignedClaims(token);
+    /**
+     * 액세스 토큰을 검증하고 Claims 를 반환합니다. 요청마다 토큰을 한 번만 파싱하도록 필터는 이 메서드의 결과를 그대로 사용하며, 이미 검증된 토큰은
+     * 만료 전까지 캐시에서 바로 반환됩니다.
+     */
+    public Claims validateAccessToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new CustomException(INVALID_ACCESS_TOKEN);
+        }
 
-            return true;
+        String key = hash(token);
+        Claims cached = accessClaimsCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = accessTokenParser.parseSignedClaims(token).getPayload();
+            accessClaimsCache.put(key, claims);
+            return claims;
         } catch (ExpiredJwtException e) {
             throw new CustomException(EXPIRED_ACCESS_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
@@ -116,30 +168,38 @@ public class JwtProvider {
         }
     }
 
-    public boolean isRefreshTokenValid(String token) {
-        try {
-            RefreshToken refreshToken =
-                    refreshTokenRepository
-                            .findByToken(token)
-                            .orElseThrow(() -> new CustomException(INVALID_REFRESH_TOKEN));
-
-            Jwts.parser()
-                    .verifyWith(getSecretKey(true))
-                    .build()
-                    .parseSignedClaims(refreshToken.getToken());
+    public boolean isAccessTokenValid(String token) {
+        validateAccessToken(token);
+        return true;
+    }
 
-            return true;
+    /** 리프레시 토큰의 서명과 만료만 검증합니다. 저장소 확인은 호출 측에서 재발급과 함께 원자적으로 수행합니다. */
+    public Claims parseRefreshToken(String token) {
+        try {
+            return refreshTokenParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new CustomException(EXPIRED_REFRESH_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
-            System.out.println("RefreshToken :" + e.getMessage());
             throw new CustomException(INVALID_REFRESH_TOKEN);
         }
     }
 
     private SecretKey getSecretKey(final boolean isRefreshToken) {
-        byte[] keyBytes = Decoders.BASE64.decode(isRefreshToken ? refreshSecretKey : accessSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return isRefreshToken ? refreshKey : accessKey;
+    }
+
+    private JwtParser getParser(final boolean isRefreshToken) {
+        return isRefreshToken ? refreshTokenParser : accessTokenParser;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder()
+                    .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String getAccessTokenFromRequest(HttpServletRequest request) {
@@ -154,4 +214,30 @@ public class JwtProvider {
 
         return cookie.getValue();
     }
+
+    /** 캐시 항목의 수명을 토큰의 남은 유효 시간으로 설정합니다. */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(
+                String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
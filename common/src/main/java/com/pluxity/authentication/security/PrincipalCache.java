@@ -0,0 +1,128 @@
+package com.pluxity.authentication.security;
+
+import static com.pluxity.global.constant.ErrorCode.EXPIRED_ACCESS_TOKEN;
+import static com.pluxity.global.constant.ErrorCode.NOT_FOUND_USER;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pluxity.global.exception.CustomException;
+import com.pluxity.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 아이디별 인증 주체 스냅샷 캐시. JWT 인증 필터는 이 캐시를 통해 사용자/권한을 조회하므로 캐시 적중 시 요청마다 발생하던 사용자 조회 쿼리가
+ * 없습니다.
+ *
+ * <p>권한이 바뀌는 UserService/RoleService 의 변경은 트랜잭션 커밋 후 무효화되며, 그 밖의 변경은 TTL 이 지나면 반영됩니다. 적중률은
+ * {@code cache.gets{cache="authenticatedPrincipal"}} 메트릭으로 노출됩니다.
+ *
+ * <p>권한이 내장된 액세스 토큰({@code jwt.access-token.embed-authorities})은 사용자 조회 없이 Claims 로 인증 주체를 만들고,
+ * 사용자별 보안 버전만 비교합니다. 보안 버전도 같은 방식으로 캐시되므로 다른 노드에서 바뀐 권한은 TTL 이 지난 뒤 반영됩니다.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "authenticatedPrincipal";
+    private static final String SECURITY_VERSION_CACHE_NAME = "securityVersion";
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedPrincipal> cache;
+    private final Cache<String, Long> securityVersions;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.cache =
+                Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        this.securityVersions =
+                Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, securityVersions, SECURITY_VERSION_CACHE_NAME);
+    }
+
+    public AuthenticatedPrincipal get(String username) {
+        return cache.get(username, this::load);
+    }
+
+    /**
+     * 검증된 Claims 로 인증 주체를 만듭니다. 권한이 내장된 토큰은 보안 버전이 현재 값과 같을 때만 Claims 의 권한을 그대로 사용하고, 다르면 만료된
+     * 토큰으로 보고 재발급을 요구합니다. 권한이 내장되지 않은 토큰은 {@link #get(String)} 으로 조회합니다.
+     */
+    public AuthenticatedPrincipal resolve(Claims claims) {
+        String username = claims.getSubject();
+        List<?> authorities = claims.get(JwtProvider.AUTHORITIES_CLAIM, List.class);
+        Number version = claims.get(JwtProvider.SECURITY_VERSION_CLAIM, Number.class);
+
+        if (authorities == null || version == null) {
+            return get(username);
+        }
+
+        if (version.longValue() != getSecurityVersion(username)) {
+            throw new CustomException(EXPIRED_ACCESS_TOKEN);
+        }
+
+        return AuthenticatedPrincipal.of(
+                username, authorities.stream().map(String::valueOf).toList());
+    }
+
+    public long getSecurityVersion(String username) {
+        return securityVersions.get(username, this::loadSecurityVersion);
+    }
+
+    public void invalidate(String username) {
+        afterCommit(
+                () -> {
+                    cache.invalidate(username);
+                    securityVersions.invalidate(username);
+                });
+    }
+
+    public void invalidateAll() {
+        afterCommit(
+                () -> {
+                    cache.invalidateAll();
+                    securityVersions.invalidateAll();
+                });
+    }
+
+    private AuthenticatedPrincipal load(String username) {
+        return userRepository
+                .findByUsername(username)
+                .map(CustomUserDetails::new)
+                .map(AuthenticatedPrincipal::from)
+                .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+    }
+
+    private Long loadSecurityVersion(String username) {
+        return userRepository
+                .findSecurityVersionByUsername(username)
+                .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+            return;
+        }
+        action.run();
+    }
+}
@@ -4,9 +4,7 @@ import static com.pluxity.global.constant.ErrorCode.*;
 
 import com.pluxity.authentication.dto.SignInRequest;
 import com.pluxity.authentication.dto.SignUpRequest;
-import com.pluxity.authentication.entity.RefreshToken;
-import com.pluxity.authentication.repository.RefreshTokenRepository;
-import com.pluxity.authentication.security.CustomUserDetails;
+import com.pluxity.authentication.repository.RefreshTokenStore;
 import com.pluxity.authentication.security.JwtProvider;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.user.entity.User;
@@ -53,7 +51,7 @@ public class AuthenticationService {
     @Value("${jwt.refresh-token.name}")
     private String REFRESH_TOKEN_NAME;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     private final UserRepository userRepository;
 
@@ -106,7 +104,7 @@ public class AuthenticationService {
                         .findByUsername(signInRequestDto.username())
                         .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 
-        publishToken(user, request, response);
+        publishToken(user, null, request, response);
     }
 
     @Transactional
@@ -115,7 +113,7 @@ public class AuthenticationService {
         String refreshToken = jwtProvider.getJwtFromRequest(REFRESH_TOKEN_NAME, request);
 
         if (refreshToken != null && !refreshToken.isEmpty()) {
-            refreshTokenRepository.findByToken(refreshToken).ifPresent(refreshTokenRepository::delete);
+            refreshTokenStore.delete(refreshToken);
 
             deleteAuthCookie(ACCESS_TOKEN_NAME, request.getContextPath(), request, response);
             deleteAuthCookie(REFRESH_TOKEN_NAME, request.getContextPath() + "/", request, response);
@@ -130,26 +128,45 @@ public class AuthenticationService {
     public void refreshToken(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = jwtProvider.getJwtFromRequest(REFRESH_TOKEN_NAME, request);
 
-        if (!jwtProvider.isRefreshTokenValid(refreshToken)) {
-            log.error("Refresh Token Error :{}", refreshToken);
+        if (StringUtils.isBlank(refreshToken)) {
             throw new CustomException(INVALID_REFRESH_TOKEN);
         }
 
-        String username = jwtProvider.extractUsername(refreshToken, true);
+        String username = jwtProvider.parseRefreshToken(refreshToken).getSubject();
 
-        CustomUserDetails userDetails =
+        User user =
                 userRepository
                         .findByUsername(username)
-                        .map(CustomUserDetails::new)
                         .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
-        publishToken(userDetails.user(), request, response);
+        publishToken(user, refreshToken, request, response);
     }
 
-    private void publishToken(User user, HttpServletRequest request, HttpServletResponse response) {
+    /**
+     * 새 토큰을 발급해 저장한 뒤 쿠키로 내려줍니다. 재발급({@code previousRefreshToken} 이 있는 경우)은 기존 토큰 폐기와 새 토큰 저장을 원자적으로
+     * 수행하므로, 이미 사용되었거나 폐기된 리프레시 토큰으로는 재발급되지 않습니다.
+     */
+    private void publishToken(
+            User user,
+            String previousRefreshToken,
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
-        String newAccessToken = jwtProvider.generateAccessToken(user.getUsername());
+        String newAccessToken = jwtProvider.generateAccessToken(user);
         String newRefreshToken = jwtProvider.generateRefreshToken(user.getUsername());
 
+        if (previousRefreshToken == null) {
+            refreshTokenStore.save(user.getUsername(), newRefreshToken, refreshExpiration);
+        } else {
+            refreshTokenStore
+                    .rotate(previousRefreshToken, newRefreshToken, refreshExpiration)
+                    .filter(user.getUsername()::equals)
+                    .orElseThrow(
+                            () -> {
+                                log.error("Refresh Token Error :{}", previousRefreshToken);
+                                return new CustomException(INVALID_REFRESH_TOKEN);
+                            });
+        }
+
         createAuthCookie(
                 ACCESS_TOKEN_NAME, newAccessToken, accessExpiration, request.getContextPath(), response);
         createAuthCookie(
@@ -160,9 +177,6 @@ public class AuthenticationService {
                 response);
 
         createExpiryCookie(request, response);
-
-        refreshTokenRepository.save(
-                RefreshToken.of(user.getUsername(), newRefreshToken, refreshExpiration));
     }
 
     // private helper to get domain without port
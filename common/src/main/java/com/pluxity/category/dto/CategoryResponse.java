@@ -19,4 +19,14 @@ public record CategoryResponse(
                 category.getChildren().stream().map(CategoryResponse::from).toList(),
                 BaseResponse.of(category));
     }
+
+    public static <T extends Category<T>> CategoryResponse of(
+            T category, List<CategoryResponse> children) {
+        return new CategoryResponse(
+                category.getId(),
+                category.getName(),
+                category.getParent() != null ? category.getParent().getId() : null,
+                children,
+                BaseResponse.of(category));
+    }
 }
@@ -17,4 +17,10 @@ public record CategoryTreeResponse(
                 category.getChildren().stream().map(CategoryTreeResponse::from).toList(),
                 BaseResponse.of(category));
     }
+
+    public static <T extends Category<T>> CategoryTreeResponse of(
+            T category, List<CategoryTreeResponse> children) {
+        return new CategoryTreeResponse(
+                category.getId(), category.getName(), children, BaseResponse.of(category));
+    }
 }
@@ -8,11 +8,15 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @MappedSuperclass
 @Getter
 public abstract class Category<T extends Category<T>> extends BaseEntity {
 
+    public static final String ROOT_PATH = "/";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,8 +29,13 @@ public abstract class Category<T extends Category<T>> extends BaseEntity {
     protected T parent;
 
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     protected List<T> children = new ArrayList<>();
 
+    /** 조상 카테고리 ID의 materialized path. 루트는 "/", 1번 카테고리의 자식은 "/1/" 이며 자신의 ID는 포함하지 않습니다. */
+    @Column(name = "path")
+    protected String path = ROOT_PATH;
+
     public abstract int getMaxDepth();
 
     public boolean isRoot() {
@@ -34,10 +43,24 @@ public abstract class Category<T extends Category<T>> extends BaseEntity {
     }
 
     public int getDepth() {
-        return isRoot() ? 1 : parent.getDepth() + 1;
+        return (int) getAncestorPath().chars().filter(ch -> ch == '/').count();
+    }
+
+    /** 자신과 모든 하위 카테고리의 path 접두사. 하위 트리 조회는 이 접두사에 대한 범위 조회 한 번으로 처리됩니다. */
+    public String getSubtreePath() {
+        return getAncestorPath() + getId() + "/";
+    }
+
+    public boolean isAncestorOf(Category<?> other) {
+        return getId() != null && other.getAncestorPath().startsWith(getSubtreePath());
     }
 
     public void assignToParent(T newParent) {
+        if (newParent != null && (newParent == this || isAncestorOf(newParent))) {
+            throw new CustomException(
+                    ErrorCode.INVALID_REFERENCE, "자기 자신 또는 하위 카테고리를 부모로 설정할 수 없습니다.");
+        }
+
         if (this.parent != null) {
             this.parent.getChildren().remove(this);
         }
@@ -48,7 +71,30 @@ public abstract class Category<T extends Category<T>> extends BaseEntity {
             newParent.getChildren().add((T) this);
         }
 
+        this.refreshPath();
+    }
+
+    /** path 컬럼 도입 이전에 저장되어 path 가 비어 있는 카테고리를 부모 체인으로부터 채웁니다. */
+    public void initializePath() {
+        if (this.path == null) {
+            this.path = getAncestorPath();
+        }
+    }
+
+    /** 부모 기준으로 path 를 다시 계산하고, 이미 저장된 카테고리라면 하위 트리 전체에 전파합니다. */
+    protected void refreshPath() {
+        this.path = isRoot() ? ROOT_PATH : parent.getSubtreePath();
         this.validateDepth();
+        if (getId() != null) {
+            children.forEach(Category::refreshPath);
+        }
+    }
+
+    private String getAncestorPath() {
+        if (path != null) {
+            return path;
+        }
+        return isRoot() ? ROOT_PATH : parent.getSubtreePath();
     }
 
     public void validateDepth() {
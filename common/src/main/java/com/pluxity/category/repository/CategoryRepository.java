@@ -0,0 +1,27 @@
+package com.pluxity.category.repository;
+
+import com.pluxity.category.entity.Category;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface CategoryRepository<T extends Category<T>> extends JpaRepository<T, Long> {
+
+    List<T> findAllByPathStartingWithOrderByIdAsc(String pathPrefix);
+
+    /** 루트 카테고리만 {@code parent IS NULL} 조건으로 조회합니다. 결과는 쿼리 캐시에 보관됩니다. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<T> findAllByParentIsNullOrderByIdAsc();
+
+    /**
+     * 자신을 제외한 모든 하위 카테고리를 path 접두사(LIKE 'prefix%') 조회 한 번으로 가져옵니다. PostgreSQL 에서는 {@link
+     * com.pluxity.category.service.CategoryPathInitializer} 가 만드는 varchar_pattern_ops 인덱스를 사용합니다.
+     */
+    default List<T> findAllDescendants(T category) {
+        return findAllByPathStartingWithOrderByIdAsc(category.getSubtreePath());
+    }
+}
@@ -0,0 +1,82 @@
+package com.pluxity.category.service;
+
+import com.pluxity.category.entity.Category;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * path 컬럼 도입 이전에 저장된 카테고리의 path 를 채웁니다. 비어 있는 행이 없으면 카테고리 유형별 COUNT 쿼리 한 번으로 끝납니다.
+ *
+ * <p>PostgreSQL 에서는 path 접두사 조회(LIKE 'prefix%')용 varchar_pattern_ops 인덱스도 만듭니다. C 가 아닌 collation 의 기본 btree
+ * 인덱스는 LIKE 접두사 조건에 쓰이지 않고, ddl-auto 는 연산자 클래스를 지정한 인덱스를 만들지 못합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryPathInitializer {
+
+    private final EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMissingPaths() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        boolean postgres = sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+            if (!isCategoryRoot(entityType)) {
+                continue;
+            }
+
+            if (postgres) {
+                createPathPatternIndex(sessionFactory, entityType);
+            }
+
+            String entityName = entityType.getName();
+            Long missing =
+                    entityManager
+                            .createQuery(
+                                    "SELECT COUNT(c) FROM " + entityName + " c WHERE c.path IS NULL", Long.class)
+                            .getSingleResult();
+            if (missing == 0) {
+                continue;
+            }
+
+            entityManager
+                    .createQuery("SELECT c FROM " + entityName + " c", Category.class)
+                    .getResultList()
+                    .forEach(Category::initializePath);
+            log.info("{} 카테고리 {}건의 path 를 초기화했습니다.", entityName, missing);
+        }
+    }
+
+    private void createPathPatternIndex(
+            SessionFactoryImplementor sessionFactory, EntityType<?> entityType) {
+        String tableName =
+                ((AbstractEntityPersister)
+                                sessionFactory.getMappingMetamodel().getEntityDescriptor(entityType.getJavaType()))
+                        .getTableName();
+        entityManager
+                .createNativeQuery(
+                        "CREATE INDEX IF NOT EXISTS idx_"
+                                + tableName
+                                + "_path_pattern ON "
+                                + tableName
+                                + " (path varchar_pattern_ops)")
+                .executeUpdate();
+    }
+
+    private boolean isCategoryRoot(EntityType<?> entityType) {
+        return Category.class.isAssignableFrom(entityType.getJavaType())
+                && !(entityType.getSupertype() instanceof EntityType<?>);
+    }
+}
@@ -5,13 +5,14 @@ import static com.pluxity.global.constant.ErrorCode.NOT_FOUND;
 import com.pluxity.category.dto.CategoryResponse;
 import com.pluxity.category.dto.CategoryTreeResponse;
 import com.pluxity.category.entity.Category;
+import com.pluxity.category.repository.CategoryRepository;
 import com.pluxity.global.exception.CustomException;
 import java.util.List;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Sort;
 
 public abstract class CategoryService<T extends Category<T>> {
 
-    protected abstract JpaRepository<T, Long> getRepository();
+    protected abstract CategoryRepository<T> getRepository();
 
     public Long create(T category, T parent) {
         category.assignToParent(parent);
@@ -22,8 +23,13 @@ public abstract class CategoryService<T extends Category<T>> {
         return getRepository().findById(id).orElseThrow(() -> new CustomException(NOT_FOUND));
     }
 
+    /** 전체 카테고리를 ID 순으로 한 번에 조회합니다. 트리 조립은 {@link CategoryTrees}에서 메모리로 수행합니다. */
+    public List<T> findAllCategories() {
+        return getRepository().findAll(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
     public List<T> getRootCategories() {
-        return getRepository().findAll().stream().filter(Category::isRoot).toList();
+        return getRepository().findAllByParentIsNullOrderByIdAsc();
     }
 
     public List<T> getChildren(Long parentId) {
@@ -32,7 +38,7 @@ public abstract class CategoryService<T extends Category<T>> {
     }
 
     public List<CategoryResponse> getRootCategoryResponses() {
-        return getRootCategories().stream().map(CategoryResponse::from).toList();
+        return CategoryTrees.build(findAllCategories(), CategoryResponse::of);
     }
 
     public List<CategoryResponse> getChildResponses(Long parentId) {
@@ -44,6 +50,6 @@ public abstract class CategoryService<T extends Category<T>> {
     }
 
     public List<CategoryTreeResponse> getCategoryTree() {
-        return getRootCategories().stream().map(CategoryTreeResponse::from).toList();
+        return CategoryTrees.build(findAllCategories(), CategoryTreeResponse::of);
     }
 }
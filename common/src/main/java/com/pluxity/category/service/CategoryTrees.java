@@ -0,0 +1,67 @@
+package com.pluxity.category.service;
+
+import com.pluxity.category.entity.Category;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 한 번의 쿼리로 읽은 평탄한 카테고리 목록을 트리 응답으로 조립합니다.
+ *
+ * <p>부모 ID 기준으로 자식을 묶은 뒤 각 노드를 한 번씩만 매핑하므로 O(n) 이며, 지연 로딩되는 {@code children} 컬렉션을 순회하지 않아 깊이와
+ * 무관하게 추가 쿼리가 발생하지 않습니다.
+ */
+public final class CategoryTrees {
+
+    private CategoryTrees() {}
+
+    /** 루트 카테고리 순서대로, 하위 트리가 채워진 응답 목록을 반환합니다. */
+    public static <T extends Category<T>, R> List<R> build(
+            List<T> categories, BiFunction<T, List<R>, R> mapper) {
+        Map<Long, R> nodes = assemble(categories, mapper);
+        return categories.stream()
+                .filter(Category::isRoot)
+                .map(category -> nodes.get(category.getId()))
+                .toList();
+    }
+
+    /** 모든 카테고리에 대해, 카테고리 ID별로 하위 트리가 채워진 응답을 반환합니다. */
+    public static <T extends Category<T>, R> Map<Long, R> assemble(
+            List<T> categories, BiFunction<T, List<R>, R> mapper) {
+        Map<Long, List<T>> childrenByParentId = new HashMap<>();
+        for (T category : categories) {
+            if (!category.isRoot()) {
+                childrenByParentId
+                        .computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>())
+                        .add(category);
+            }
+        }
+
+        Map<Long, R> nodes = new HashMap<>();
+        for (T category : categories) {
+            assemble(category, childrenByParentId, mapper, nodes);
+        }
+        return nodes;
+    }
+
+    private static <T extends Category<T>, R> R assemble(
+            T category,
+            Map<Long, List<T>> childrenByParentId,
+            BiFunction<T, List<R>, R> mapper,
+            Map<Long, R> nodes) {
+        R node = nodes.get(category.getId());
+        if (node != null) {
+            return node;
+        }
+
+        List<R> children =
+                childrenByParentId.getOrDefault(category.getId(), List.of()).stream()
+                        .map(child -> assemble(child, childrenByParentId, mapper, nodes))
+                        .toList();
+        node = mapper.apply(category, children);
+        nodes.put(category.getId(), node);
+        return node;
+    }
+}
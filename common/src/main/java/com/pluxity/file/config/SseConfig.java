@@ -3,12 +3,16 @@ package com.pluxity.file.config;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Configuration
 public class SseConfig implements WebMvcConfigurer {
@@ -38,11 +42,22 @@ public class SseConfig implements WebMvcConfigurer {
             // preHandle에서 했던 것과 동일한 검증 로직 수행
             if (handler instanceof HandlerMethod) {
                 HandlerMethod handlerMethod = (HandlerMethod) handler;
-                if (SseEmitter.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType())) {
+                if (isLongLivedResponse(handlerMethod)) {
                     // 이제 isAsyncStarted()가 true인 안전한 시점이므로, getAsyncContext() 호출 가능
                     request.getAsyncContext().setTimeout(SSE_TIMEOUT);
                 }
             }
         }
+
+        /** SseEmitter 또는 NDJSON 내보내기처럼 StreamingResponseBody를 반환하는 핸들러인지 확인 */
+        private boolean isLongLivedResponse(HandlerMethod handlerMethod) {
+            MethodParameter returnType = handlerMethod.getReturnType();
+            Class<?> type = returnType.getParameterType();
+            if (ResponseEntity.class.isAssignableFrom(type)) {
+                type = ResolvableType.forMethodParameter(returnType).getGeneric(0).resolve(Object.class);
+            }
+            return SseEmitter.class.isAssignableFrom(type)
+                    || StreamingResponseBody.class.isAssignableFrom(type);
+        }
     }
 }
@@ -1,21 +1,27 @@
 package com.pluxity.file.config;
 
+import com.pluxity.file.controller.LocalFileRequestHandler;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
+
+    private static final int LOCAL_FILE_HANDLER_ORDER = 1;
 
     @Value("${file.local.path}")
     private String uploadPath;
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry
-                .addResourceHandler("/files/**")
-                .addResourceLocations("file:" + uploadPath + "/")
-                .setCacheControl(null);
+    /**
+     * 컨트롤러 매핑({@code /files/{id}} 등)에 걸리지 않은 {@code /files/**} 요청을 로컬 파일로 처리합니다. 순서는 컨트롤러
+     * 매핑(0) 바로 다음이며, Boot 의 {@code /**} 정적 리소스 매핑({@code LOWEST_PRECEDENCE - 1})보다 먼저 적용됩니다.
+     */
+    @Bean
+    public SimpleUrlHandlerMapping localFileHandlerMapping() {
+        return new SimpleUrlHandlerMapping(
+                Map.of("/files/**", new LocalFileRequestHandler(uploadPath)), LOCAL_FILE_HANDLER_ORDER);
     }
 }
@@ -5,5 +5,7 @@ import lombok.Getter;
 @Getter
 public enum FileStatus {
     TEMP,
-    COMPLETE
+    PROCESSING,
+    COMPLETE,
+    FAILED
 }
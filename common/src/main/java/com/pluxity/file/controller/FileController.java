@@ -1,6 +1,7 @@
 package com.pluxity.file.controller;
 
 import com.pluxity.file.dto.FileResponse;
+import com.pluxity.file.dto.SbmFileUploadResponse;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.annotation.ResponseCreated;
 import com.pluxity.global.response.DataResponseBody;
@@ -12,12 +13,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/files")
@@ -85,6 +92,58 @@ public class FileController {
         return ResponseEntity.ok().body(fileService.initiateUpload(file));
     }
 
+    @Operation(
+            summary = "파일 스트리밍 업로드",
+            description =
+                    "요청 본문을 파일 내용 그대로 받아 임시 파일 없이 스토리지로 바로 저장합니다. 파일명은 URL 인코딩하여 X-File-Name 헤더로 전달합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "201",
+                        description = "파일 업로드 성공",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(
+                        responseCode = "411",
+                        description = "Content-Length 누락",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "413",
+                        description = "최대 업로드 크기 초과",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @PostMapping("/upload/stream")
+    @ResponseCreated(path = "/files/{id}")
+    public ResponseEntity<Long> uploadFileStream(
+            @Parameter(description = "URL 인코딩된 원본 파일명", required = true) @RequestHeader("X-File-Name")
+                    String fileName,
+            HttpServletRequest request)
+            throws IOException {
+
+        String contentType =
+                Optional.ofNullable(request.getContentType()).orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        return ResponseEntity.ok()
+                .body(
+                        fileService.initiateUpload(
+                                request.getInputStream(),
+                                request.getContentLengthLong(),
+                                URLDecoder.decode(fileName, StandardCharsets.UTF_8),
+                                contentType));
+    }
+
     @Operation(summary = "파일 정보 조회", description = "ID로 파일 정보를 조회합니다")
     @ApiResponses(
             value = {
@@ -109,4 +168,65 @@ public class FileController {
             @Parameter(description = "파일 ID", required = true) @PathVariable Long id) {
         return ResponseEntity.ok(DataResponseBody.of(fileService.getFileResponse(id)));
     }
+
+    @Operation(
+            summary = "SBM 패키지 처리",
+            description = "영구 저장된 SBM 패키지의 층 정보를 읽고 층별 파일을 저장한 뒤 층 그룹 목록을 반환합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "SBM 처리 성공"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "영구 저장되지 않은 파일이거나 적절하지 않은 SBM 파일",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "파일을 찾을 수 없음",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @PostMapping("/{id}/sbm")
+    public ResponseEntity<DataResponseBody<SbmFileUploadResponse>> processSbmFile(
+            @Parameter(description = "파일 ID", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(DataResponseBody.of(fileService.processSbmFile(id)));
+    }
+
+    @Operation(
+            summary = "파일 영구 저장 진행 상황 구독",
+            description = "SSE로 파일 영구 저장 진행 상황(progress 이벤트)을 전달합니다. 저장이 끝나면 COMPLETE 또는 FAILED 이벤트 후 연결이 종료됩니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "구독 성공"),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "파일을 찾을 수 없음",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @GetMapping(value = "/{id}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProgress(
+            @Parameter(description = "파일 ID", required = true) @PathVariable Long id) {
+        return fileService.subscribeProgress(id);
+    }
 }
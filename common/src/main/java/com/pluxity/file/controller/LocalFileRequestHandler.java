@@ -0,0 +1,256 @@
+package com.pluxity.file.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 로컬 저장소의 파일을 {@code /files/**} 로 제공합니다. 영구 저장 경로는 업로드마다 고유하거나 내용 해시로 정해지므로 한 번 내려받은 응답은 바뀌지 않는다고
+ * 보고 {@code immutable} 캐시와 강한 ETag 를 붙입니다.
+ *
+ * <ul>
+ *   <li>{@code Range}/{@code If-Range} 로 단일 구간 요청을 지원합니다. 여러 구간 요청은 전체 응답으로 대신합니다.
+ *   <li>{@code Accept-Encoding} 이 q 값으로 허용하면 미리 압축된 {@code .br}, {@code .gz} 파일을 대신 보냅니다.
+ *   <li>Tomcat 이 sendfile 을 지원하면 본문 전송을 맡기고, 아니면 {@link FileChannel#transferTo} 로 보냅니다.
+ * </ul>
+ */
+@Slf4j
+public class LocalFileRequestHandler implements HttpRequestHandler {
+
+    static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    /** 우선순위 순서의 미리 압축된 파일 확장자와 Content-Encoding */
+    private static final List<Encoding> ENCODINGS =
+            List.of(new Encoding("br", ".br"), new Encoding("gzip", ".gz"));
+
+    private final Path rootPath;
+
+    public LocalFileRequestHandler(String uploadPath) {
+        this.rootPath = Paths.get(uploadPath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        if (!head && !HttpMethod.GET.matches(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Path file = resolve(request);
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+
+        // 구간 요청은 원본 표현에 대한 것이므로 압축 파일로 바꾸지 않는다.
+        Encoding encoding = rangeHeader == null ? selectEncoding(request, file) : null;
+        Path body = encoding == null ? file : encoding.sidecarOf(file);
+        long length = encoding == null ? attributes.size() : Files.size(body);
+        String eTag = eTag(attributes, encoding);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType(file));
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.name());
+        }
+
+        long start = 0;
+        long end = length - 1;
+        if (rangeHeader != null && rangeApplies(request, eTag, lastModified)) {
+            HttpRange range = singleRange(rangeHeader);
+            if (range != null) {
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    end = -1;
+                }
+                if (end < start) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (head || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, body.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        transfer(body, start, count, response);
+    }
+
+    private Path resolve(HttpServletRequest request) {
+        Object pathWithinMapping =
+                request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if (!(pathWithinMapping instanceof String relativePath) || relativePath.isBlank()) {
+            return null;
+        }
+        Path resolved = rootPath.resolve(relativePath).normalize();
+        // 경로 조작(../)으로 저장소 밖의 파일을 읽지 못하게 한다.
+        return resolved.startsWith(rootPath) ? resolved : null;
+    }
+
+    /** q 값이 가장 높은 압축 방식을 고르고, 같으면 {@link #ENCODINGS} 순서를 따른다. {@code q=0} 은 거부로 본다. */
+    private Encoding selectEncoding(HttpServletRequest request, Path file) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        Map<String, Double> qualities = parseQualities(acceptEncoding);
+        double wildcard = qualities.getOrDefault("*", 0.0);
+
+        Encoding selected = null;
+        double selectedQuality = 0;
+        for (Encoding encoding : ENCODINGS) {
+            double quality = qualities.getOrDefault(encoding.name(), wildcard);
+            if (quality > selectedQuality && Files.isRegularFile(encoding.sidecarOf(file))) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    /** {@code Accept-Encoding} 의 각 코딩과 q 값. q 가 없으면 1, 잘못된 q 는 0 으로 본다. */
+    private Map<String, Double> parseQualities(String acceptEncoding) {
+        Map<String, Double> qualities = new HashMap<>();
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.isEmpty()) {
+                continue;
+            }
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.put(coding, quality);
+        }
+        return qualities;
+    }
+
+    /** If-Range 가 없거나 현재 표현과 일치할 때만 구간 요청을 따른다. 일치하지 않으면 전체를 보낸다. */
+    private boolean rangeApplies(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            // HTTP 날짜는 초 단위이다.
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private HttpRange singleRange(String rangeHeader) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더 무시: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    private String eTag(BasicFileAttributes attributes, Encoding encoding) {
+        String tag =
+                Long.toHexString(attributes.size())
+                        + "-"
+                        + Long.toHexString(attributes.lastModifiedTime().toMillis());
+        return "\"" + (encoding == null ? tag : tag + "-" + encoding.name()) + "\"";
+    }
+
+    private String contentType(Path file) {
+        return MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    private void transfer(Path body, long start, long count, HttpServletResponse response)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private record Encoding(String name, String extension) {
+
+        Path sidecarOf(Path file) {
+            return file.resolveSibling(file.getFileName() + extension);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pluxity.file.dto;
+
+import com.pluxity.file.constant.FileStatus;
+
+/**
+ * 파일 영구 저장 진행 상황.
+ *
+ * @param completed 완료된 작업 수 (압축 파일은 업로드된 엔트리 수)
+ * @param total 전체 작업 수 (아직 알 수 없으면 -1)
+ */
+public record FileProgressResponse(Long fileId, String status, long completed, long total) {
+
+    public static FileProgressResponse of(Long fileId, FileStatus status, long completed, long total) {
+        return new FileProgressResponse(fileId, status.name(), completed, total);
+    }
+
+    public static FileProgressResponse of(Long fileId, FileStatus status) {
+        return of(fileId, status, 0, -1);
+    }
+}
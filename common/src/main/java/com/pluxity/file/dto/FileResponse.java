@@ -17,7 +17,7 @@ public record FileResponse(
     public static FileResponse from(FileEntity fileEntity) {
         return new FileResponse(
                 fileEntity.getId(),
-                fileEntity.getFilePath(),
+                fileEntity.getStoragePath(),
                 fileEntity.getOriginalFileName(),
                 fileEntity.getContentType(),
                 fileEntity.getFileStatus().toString(),
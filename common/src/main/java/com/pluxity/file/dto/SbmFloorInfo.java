@@ -2,11 +2,12 @@ package com.pluxity.file.dto;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record SbmFloorInfo(
         String floorId,
         String floorName,
         String fileName,
+        String filePath,
         String floorBase,
         String floorGroup,
         String isMain) {}
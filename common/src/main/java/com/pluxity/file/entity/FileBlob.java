@@ -0,0 +1,68 @@
+package com.pluxity.file.entity;
+
+import com.pluxity.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 내용(SHA-256)이 같은 업로드가 함께 참조하는 저장소 객체. 참조하는 {@link FileEntity} 수를 센다. 참조 수는 동시 요청끼리 충돌하지 않도록
+ * {@code FileBlobRepository} 의 원자적 UPDATE 로만 바꾼다.
+ */
+@Entity
+@Table(name = "file_blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class FileBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_path", nullable = false, unique = true)
+    private String filePath;
+
+    /** 이 저장소 객체가 쓰는 디렉토리. 이 컬럼 이전에 저장된 객체는 비어 있으며 {@link #directoryOf(String)} 를 쓴다. */
+    @Column(name = "directory")
+    private String directory;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "reference_count", nullable = false)
+    private long referenceCount;
+
+    @Builder
+    public FileBlob(String contentHash, String filePath, String directory, String contentType) {
+        this.contentHash = contentHash;
+        this.filePath = filePath;
+        this.directory = directory;
+        this.contentType = contentType;
+        this.referenceCount = 0;
+    }
+
+    /** 저장소에서 삭제할 디렉토리. 압축 파일은 이 디렉토리에 풀려 있다. */
+    public String getStorageDirectory() {
+        return directory != null ? directory : directoryOf(contentHash);
+    }
+
+    /** 세대 구분 없이 내용 해시로만 정해지던 이전 저장 디렉토리. */
+    public static String directoryOf(String contentHash) {
+        return "blobs/" + contentHash.substring(0, 2) + "/" + contentHash + "/";
+    }
+
+    /**
+     * 내용 해시와 세대로 정해지는 저장 디렉토리. 마지막 참조가 끊겨 이전 세대의 디렉토리가 커밋 후 비동기로 삭제되는 사이에 같은 내용이 다시 올라와도
+     * 새 세대 디렉토리에 저장되므로 지연된 삭제가 새 파일을 지우지 않는다.
+     */
+    public static String directoryOf(String contentHash, String generation) {
+        return directoryOf(contentHash) + generation + "/";
+    }
+}
@@ -33,16 +33,53 @@ public class FileEntity extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private FileStatus fileStatus;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private FileBlob blob;
+
     @Builder
-    public FileEntity(String filePath, String originalFileName, String contentType) {
+    public FileEntity(
+            String filePath, String originalFileName, String contentType, String contentHash) {
         this.filePath = filePath;
         this.originalFileName = originalFileName;
         this.contentType = contentType;
+        this.contentHash = contentHash;
         this.fileStatus = FileStatus.TEMP;
     }
 
+    /** 실제 내용이 저장된 경로. 공유 저장소 객체를 참조하면 그 경로를, 아니면 이 파일의 경로를 반환한다. */
+    public String getStoragePath() {
+        return blob != null ? blob.getFilePath() : filePath;
+    }
+
+    public void markProcessing() {
+        this.fileStatus = FileStatus.PROCESSING;
+    }
+
+    public void markFailed() {
+        this.fileStatus = FileStatus.FAILED;
+    }
+
     public void makeComplete(String filePath) {
         this.filePath = filePath;
         this.fileStatus = FileStatus.COMPLETE;
     }
+
+    /** 저장소 객체를 참조합니다. 참조 수는 호출하는 쪽에서 {@code FileBlobRepository} 로 늘립니다. */
+    public void linkBlob(FileBlob blob) {
+        this.blob = blob;
+        this.fileStatus = FileStatus.COMPLETE;
+    }
+
+    /**
+     * @return 참조를 끊은 저장소 객체 (없으면 null)
+     */
+    public FileBlob unlinkBlob() {
+        FileBlob unlinked = this.blob;
+        this.blob = null;
+        return unlinked;
+    }
 }
@@ -0,0 +1,34 @@
+package com.pluxity.file.repository;
+
+import com.pluxity.file.entity.FileBlob;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findByContentHash(String contentHash);
+
+    /**
+     * @return 갱신된 행 수. 0 이면 저장소 객체가 이미 삭제되었다.
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount + 1 WHERE b.id = :id")
+    int incrementReferenceCount(Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            "UPDATE FileBlob b SET b.referenceCount = b.referenceCount - 1 "
+                    + "WHERE b.id = :id AND b.referenceCount > 0")
+    int decrementReferenceCount(Long id);
+
+    /**
+     * 참조가 남지 않은 경우에만 삭제합니다. 동시에 참조를 늘린 트랜잭션이 있으면 삭제되지 않습니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.id = :id AND b.referenceCount = 0")
+    int deleteIfUnreferenced(Long id);
+}
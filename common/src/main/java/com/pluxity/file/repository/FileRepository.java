@@ -1,6 +1,22 @@
 package com.pluxity.file.repository;
 
+import com.pluxity.file.constant.FileStatus;
 import com.pluxity.file.entity.FileEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface FileRepository extends JpaRepository<FileEntity, Long> {}
+public interface FileRepository extends JpaRepository<FileEntity, Long> {
+
+    @Query("select f.fileStatus from FileEntity f where f.id = :id")
+    Optional<FileStatus> findFileStatusById(Long id);
+
+    @EntityGraph(attributePaths = "blob")
+    List<FileEntity> findAllWithBlobByIdIn(Collection<Long> ids);
+
+    List<FileEntity> findAllByFileStatusAndUpdatedAtBefore(FileStatus fileStatus, LocalDateTime threshold);
+}
@@ -0,0 +1,237 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.constant.FileStatus;
+import com.pluxity.file.dto.FileProgressResponse;
+import com.pluxity.file.entity.FileBlob;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileBlobRepository;
+import com.pluxity.file.repository.FileRepository;
+import com.pluxity.file.strategy.storage.FilePersistenceContext;
+import com.pluxity.file.strategy.storage.StorageStrategy;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 파일 영구 저장(복사, 압축 해제, 임시 파일 삭제)을 요청 트랜잭션 밖의 작업 스레드에서 수행합니다. 작업은 요청 트랜잭션이 커밋된 뒤 시작되며, 끝나면 짧은
+ * 별도 트랜잭션으로 파일 상태를 COMPLETE 또는 FAILED 로 바꾸고 진행 상황을 SSE 로 알립니다. 내용 해시가 있는 파일은 저장된 경로를 공유 저장소
+ * 객체({@link FileBlob})로 등록하고 참조합니다.
+ *
+ * <p>작업 스레드 풀은 빈으로 등록하지 않고 이 클래스가 소유합니다. {@code Executor} 빈이 생기면 Spring Boot 의 기본
+ * {@code applicationTaskExecutor} 가 만들어지지 않아 MVC 비동기 응답이 제한 없는 실행기로 처리되기 때문입니다.
+ */
+@Slf4j
+@Component
+public class FileFinalizeWorker implements DisposableBean {
+
+    private static final int MAX_COMPLETE_ATTEMPTS = 3;
+
+    private final StorageStrategy storageStrategy;
+    private final FileRepository repository;
+    private final FileBlobRepository blobRepository;
+    private final FileProgressNotifier progressNotifier;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    @Autowired
+    public FileFinalizeWorker(
+            StorageStrategy storageStrategy,
+            FileRepository repository,
+            FileBlobRepository blobRepository,
+            FileProgressNotifier progressNotifier,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.finalize.pool-size:4}") int poolSize,
+            @Value("${file.finalize.queue-capacity:100}") int queueCapacity) {
+        this(
+                storageStrategy,
+                repository,
+                blobRepository,
+                progressNotifier,
+                transactionManager,
+                createExecutor(poolSize, queueCapacity));
+    }
+
+    FileFinalizeWorker(
+            StorageStrategy storageStrategy,
+            FileRepository repository,
+            FileBlobRepository blobRepository,
+            FileProgressNotifier progressNotifier,
+            PlatformTransactionManager transactionManager,
+            TaskExecutor executor) {
+        this.storageStrategy = storageStrategy;
+        this.repository = repository;
+        this.blobRepository = blobRepository;
+        this.progressNotifier = progressNotifier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-finalize-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        }
+    }
+
+    /** 현재 트랜잭션이 커밋되면 영구 저장 작업을 작업 스레드에 맡깁니다. 트랜잭션이 없으면 바로 맡깁니다. */
+    public void submitAfterCommit(Long fileId, FilePersistenceContext context) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            submit(fileId, context);
+                        }
+                    });
+            return;
+        }
+        submit(fileId, context);
+    }
+
+    private void submit(Long fileId, FilePersistenceContext context) {
+        try {
+            executor.execute(() -> finalizeFile(fileId, context));
+        } catch (RuntimeException e) {
+            log.error("파일 영구 저장 작업 등록 실패 (fileId: {}): {}", fileId, e.getMessage(), e);
+            fail(fileId);
+        }
+    }
+
+    private void finalizeFile(Long fileId, FilePersistenceContext context) {
+        progressNotifier.publish(FileProgressResponse.of(fileId, FileStatus.PROCESSING));
+        try {
+            var trackedContext =
+                    FilePersistenceContext.builder()
+                            .filePath(context.filePath())
+                            .newPath(context.newPath())
+                            .contentType(context.contentType())
+                            .originalFileName(context.originalFileName())
+                            .targetFileName(context.targetFileName())
+                            .progressListener(
+                                    (completed, total) ->
+                                            progressNotifier.publish(
+                                                    FileProgressResponse.of(
+                                                            fileId, FileStatus.PROCESSING, completed, total)))
+                            .build();
+
+            String persistPath = storageStrategy.persist(trackedContext);
+
+            complete(fileId, persistPath, context.newPath(), context.contentType());
+            progressNotifier.complete(FileProgressResponse.of(fileId, FileStatus.COMPLETE, 1, 1));
+        } catch (Exception e) {
+            log.error("File Persist Exception (fileId: {}): {}", fileId, e.getMessage(), e);
+            fail(fileId);
+        }
+    }
+
+    /**
+     * 같은 내용을 동시에 등록하는 작업과 충돌하면 다시 시도합니다. 내용이 같으므로 먼저 등록된 저장소 객체를 참조하고, 이번에 저장한 세대 디렉토리는
+     * 커밋 후 지운다.
+     */
+    private void complete(Long fileId, String persistPath, String directory, String contentType) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                completeInTransaction(fileId, persistPath, directory, contentType);
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= MAX_COMPLETE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("저장소 객체 등록 충돌, 재시도 (fileId: {}, attempt: {}): {}", fileId, attempt, e.getMessage());
+            }
+        }
+    }
+
+    private void completeInTransaction(
+            Long fileId, String persistPath, String directory, String contentType) {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        repository
+                                .findById(fileId)
+                                .ifPresent(file -> complete(file, persistPath, directory, contentType)));
+    }
+
+    private void complete(FileEntity file, String persistPath, String directory, String contentType) {
+        String contentHash = file.getContentHash();
+        if (contentHash == null) {
+            file.makeComplete(persistPath);
+            return;
+        }
+
+        Optional<FileBlob> existing = blobRepository.findByContentHash(contentHash);
+        FileBlob blob =
+                existing.orElseGet(
+                        () ->
+                                blobRepository.saveAndFlush(
+                                        FileBlob.builder()
+                                                .contentHash(contentHash)
+                                                .filePath(persistPath)
+                                                .directory(directory)
+                                                .contentType(contentType)
+                                                .build()));
+        if (blobRepository.incrementReferenceCount(blob.getId()) == 0) {
+            throw new ConcurrencyFailureException("저장소 객체가 동시에 삭제되었습니다: " + contentHash);
+        }
+        file.linkBlob(blob);
+        if (existing.isPresent() && !blob.getStorageDirectory().equals(directory)) {
+            deleteAfterCommit(directory);
+        }
+    }
+
+    /** 현재 트랜잭션이 커밋되면 저장소의 파일을 작업 스레드에서 삭제합니다. 삭제 실패는 기록만 합니다. */
+    public void deleteAfterCommit(String path) {
+        Runnable delete =
+                () ->
+                        executor.execute(
+                                () -> {
+                                    try {
+                                        storageStrategy.delete(path);
+                                    } catch (Exception e) {
+                                        log.warn("저장소 파일 삭제 실패 (path: {}): {}", path, e.getMessage());
+                                    }
+                                });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            delete.run();
+                        }
+                    });
+            return;
+        }
+        delete.run();
+    }
+
+    private void fail(Long fileId) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> repository.findById(fileId).ifPresent(file -> file.markFailed()));
+        } finally {
+            progressNotifier.complete(FileProgressResponse.of(fileId, FileStatus.FAILED));
+        }
+    }
+}
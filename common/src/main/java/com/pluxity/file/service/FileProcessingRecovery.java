@@ -0,0 +1,53 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.constant.FileStatus;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 영구 저장 작업이 끝나기 전에 서버가 내려가 PROCESSING 상태로 남은 파일을 시작 시점에 FAILED 로 정리합니다. 작업 큐는 메모리에만
+ * 있으므로 다시 처리될 수 없고, 다른 인스턴스가 처리 중인 파일을 건드리지 않도록 일정 시간 이상 갱신되지 않은 행만 대상으로 합니다.
+ */
+@Component
+@Slf4j
+public class FileProcessingRecovery {
+
+    private final FileRepository repository;
+    private final FileFinalizeWorker finalizeWorker;
+    private final Duration staleAfter;
+
+    public FileProcessingRecovery(
+            FileRepository repository,
+            FileFinalizeWorker finalizeWorker,
+            @Value("${file.finalize.stale-after:PT30M}") Duration staleAfter) {
+        this.repository = repository;
+        this.finalizeWorker = finalizeWorker;
+        this.staleAfter = staleAfter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failStaleProcessingFiles() {
+        LocalDateTime threshold = LocalDateTime.now().minus(staleAfter);
+        List<FileEntity> staleFiles =
+                repository.findAllByFileStatusAndUpdatedAtBefore(FileStatus.PROCESSING, threshold);
+        if (staleFiles.isEmpty()) {
+            return;
+        }
+
+        for (FileEntity file : staleFiles) {
+            file.markFailed();
+            finalizeWorker.deleteAfterCommit(file.getFilePath());
+        }
+        log.warn("PROCESSING 상태로 남아 있던 파일 {}건을 FAILED 로 변경했습니다.", staleFiles.size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.dto.FileProgressResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** 파일 ID별 SSE 구독자에게 영구 저장 진행 상황을 전달합니다. */
+@Slf4j
+@Component
+public class FileProgressNotifier {
+
+    private static final String EVENT_NAME = "progress";
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L; // SseConfig 와 같은 30분
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long fileId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        emitters.computeIfAbsent(fileId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(fileId, emitter));
+        emitter.onTimeout(() -> remove(fileId, emitter));
+        emitter.onError(e -> remove(fileId, emitter));
+        return emitter;
+    }
+
+    public void publish(FileProgressResponse progress) {
+        List<SseEmitter> subscribers = emitters.get(progress.fileId());
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.forEach(emitter -> send(progress.fileId(), emitter, progress));
+    }
+
+    /** 마지막 이벤트를 보내고 해당 파일의 구독을 모두 종료합니다. */
+    public void complete(FileProgressResponse progress) {
+        List<SseEmitter> subscribers = emitters.remove(progress.fileId());
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.forEach(
+                emitter -> {
+                    if (send(progress.fileId(), emitter, progress)) {
+                        emitter.complete();
+                    }
+                });
+    }
+
+    /** 이미 끝난 파일을 구독한 경우처럼 한 구독자에게만 마지막 이벤트를 보내고 종료합니다. */
+    public void completeImmediately(SseEmitter emitter, FileProgressResponse progress) {
+        if (send(progress.fileId(), emitter, progress)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(Long fileId, SseEmitter emitter, FileProgressResponse progress) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(progress));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("파일 진행 이벤트 전송 실패 (fileId: {}): {}", fileId, e.getMessage());
+            remove(fileId, emitter);
+            return false;
+        }
+    }
+
+    private void remove(Long fileId, SseEmitter emitter) {
+        emitters.computeIfPresent(
+                fileId,
+                (id, subscribers) -> {
+                    subscribers.remove(emitter);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+    }
+}
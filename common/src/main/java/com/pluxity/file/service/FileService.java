@@ -4,8 +4,12 @@ import static com.pluxity.global.constant.ErrorCode.FAILED_TO_UPLOAD_FILE;
 import static com.pluxity.global.constant.ErrorCode.INVALID_FILE_STATUS;
 
 import com.pluxity.file.constant.FileStatus;
+import com.pluxity.file.dto.FileProgressResponse;
 import com.pluxity.file.dto.FileResponse;
+import com.pluxity.file.dto.SbmFileUploadResponse;
+import com.pluxity.file.entity.FileBlob;
 import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileBlobRepository;
 import com.pluxity.file.repository.FileRepository;
 import com.pluxity.file.strategy.storage.FilePersistenceContext;
 import com.pluxity.file.strategy.storage.FileProcessingContext;
@@ -14,17 +18,31 @@ import com.pluxity.global.config.S3Config;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.global.utils.FileUtils;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
@@ -34,11 +52,17 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 @Slf4j
 public class FileService {
 
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
     private final S3Presigner s3Presigner;
     private final S3Config s3Config;
     private final StorageStrategy storageStrategy;
     private final FileRepository repository;
+    private final FileBlobRepository blobRepository;
     private final SbmFileService sbmFileService;
+    private final FileFinalizeWorker finalizeWorker;
+    private final FileProgressNotifier progressNotifier;
 
     @Value("${file.storage-strategy}")
     private String storageStrategyType;
@@ -49,6 +73,9 @@ public class FileService {
     @Value("${file.s3.public-url}")
     private String publicUrl;
 
+    @Value("${spring.servlet.multipart.max-file-size:100MB}")
+    private DataSize maxUploadSize;
+
     // TODO: PreSigned URL 생성 시 추가 로직 필요 (예: Drawing / ID 등)
     public String generatePreSignedUrl(String s3Key) {
         GetObjectRequest getObjectRequest =
@@ -64,78 +91,199 @@ public class FileService {
         return preSignedUrl.toString();
     }
 
-    @Transactional
     public Long initiateUpload(MultipartFile file) {
-        try {
-            // 임시 파일로 저장
-            Path tempPath = FileUtils.createTempFile(file.getOriginalFilename());
-            file.transferTo(tempPath);
+        try (InputStream inputStream = file.getInputStream()) {
+            return initiateUpload(
+                    inputStream, file.getSize(), file.getOriginalFilename(), FileUtils.getContentType(file));
+        } catch (IOException e) {
+            log.error("File Upload Exception : {}", e.getMessage(), e);
+            throw new CustomException(FAILED_TO_UPLOAD_FILE, e.getMessage());
+        }
+    }
 
+    /**
+     * 요청 본문 스트림을 임시 파일에 복사하지 않고 스토리지로 바로 전달해 업로드를 시작합니다. 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 먼저
+     * 스토리지에 쓰고, 파일 정보는 리포지토리의 짧은 트랜잭션으로 저장합니다. 저장에 실패하면 써 둔 임시 파일을 지웁니다.
+     *
+     * @param contentLength 스트림 길이. 업로드 최대 크기를 넘거나 알 수 없으면 거부됩니다.
+     */
+    public Long initiateUpload(
+            InputStream inputStream, long contentLength, String originalFileName, String contentType) {
+        validateContentLength(contentLength);
+        try {
             // 파일 컨텍스트 생성
             var context =
                     FileProcessingContext.builder()
-                            .contentType(FileUtils.getContentType(file))
-                            .tempPath(tempPath)
-                            .originalFileName(file.getOriginalFilename())
+                            .contentType(contentType)
+                            .originalFileName(originalFileName)
                             .build();
 
-            // 스토리지에 저장
-            String filePath = storageStrategy.save(context);
+            // 스토리지에 저장하면서 내용 해시 계산
+            DigestInputStream digestStream = digestStream(inputStream);
+            String filePath = storageStrategy.save(digestStream, contentLength, context);
+            String contentHash = HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
 
             // 엔티티 생성 및 저장
             FileEntity fileEntity =
                     FileEntity.builder()
                             .filePath(filePath)
-                            .originalFileName(file.getOriginalFilename())
-                            .contentType(FileUtils.getContentType(file))
+                            .originalFileName(originalFileName)
+                            .contentType(contentType)
+                            .contentHash(contentHash)
                             .build();
 
-            FileEntity savedFile = repository.save(fileEntity);
-
-            // 임시 파일 삭제
-            Files.deleteIfExists(tempPath);
-
-            //            return FileUploadResponse.from(savedFile);
-            return savedFile.getId();
+            try {
+                return repository.save(fileEntity).getId();
+            } catch (RuntimeException e) {
+                deleteQuietly(filePath);
+                throw e;
+            }
         } catch (Exception e) {
             log.error("File Upload Exception : {}", e.getMessage(), e);
             throw new CustomException(FAILED_TO_UPLOAD_FILE, e.getMessage());
         }
     }
 
+    private void deleteQuietly(String filePath) {
+        try {
+            storageStrategy.delete(filePath);
+        } catch (Exception e) {
+            log.warn("임시 파일 삭제 실패 (path: {}): {}", filePath, e.getMessage());
+        }
+    }
+
+    private DigestInputStream digestStream(InputStream inputStream)
+            throws NoSuchAlgorithmException {
+        // 재시도 시 스트림을 되감으면 같은 바이트가 해시에 두 번 들어가므로 mark/reset 을 막는다.
+        return new DigestInputStream(inputStream, MessageDigest.getInstance(CONTENT_HASH_ALGORITHM)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+    }
+
+    private void validateContentLength(long contentLength) {
+        if (contentLength < 0) {
+            throw new CustomException(
+                    "Length required", HttpStatus.LENGTH_REQUIRED, "Content-Length 헤더가 필요합니다.");
+        }
+        if (contentLength > maxUploadSize.toBytes()) {
+            throw new CustomException(
+                    "Payload too large",
+                    HttpStatus.PAYLOAD_TOO_LARGE,
+                    "업로드 가능한 최대 크기(" + maxUploadSize.toMegabytes() + "MB)를 초과했습니다.");
+        }
+    }
+
+    /**
+     * 임시 파일을 영구 저장합니다. 같은 내용이 이미 저장되어 있으면 그 저장소 객체를 참조하고 임시 파일만 지우므로 복사 없이 바로 COMPLETE 가
+     * 됩니다. 처음 보는 내용이면 PROCESSING 상태로 바꾸고, 트랜잭션 커밋 후 작업 스레드가 내용 해시로 정해지는 경로에 저장합니다. 진행 상황은 {@code
+     * GET /files/{id}/progress} 로 구독할 수 있습니다.
+     *
+     * @param newPath 내용 해시가 없는(이 기능 이전에 업로드된) 임시 파일을 저장할 경로
+     */
     @Transactional
     public FileEntity finalizeUpload(Long fileId, String newPath) {
+        FileEntity file =
+                repository
+                        .findById(fileId)
+                        .orElseThrow(
+                                () ->
+                                        new CustomException(
+                                                "File not found", HttpStatus.NOT_FOUND, "해당 파일 아이디를 찾지 못했습니다"));
+
+        if (file.getFileStatus() != FileStatus.TEMP) {
+            throw new CustomException(INVALID_FILE_STATUS, "임시 파일이 아닌 경우에는 영구 저장할 수 없습니다");
+        }
 
-        try {
-            FileEntity file =
-                    repository
-                            .findById(fileId)
-                            .orElseThrow(
-                                    () ->
-                                            new CustomException(
-                                                    "File not found", HttpStatus.NOT_FOUND, "해당 파일 아이디를 찾지 못했습니다"));
-
-            if (file.getFileStatus() != FileStatus.TEMP) {
-                throw new CustomException(INVALID_FILE_STATUS, "임시 파일이 아닌 경우에는 영구 저장할 수 없습니다");
+        String contentHash = file.getContentHash();
+        if (contentHash != null) {
+            Optional<FileBlob> blob = blobRepository.findByContentHash(contentHash);
+            // 조회 후 동시에 삭제되었으면 갱신 행이 없으므로 새로 저장한다.
+            if (blob.isPresent() && blobRepository.incrementReferenceCount(blob.get().getId()) > 0) {
+                file.linkBlob(blob.get());
+                finalizeWorker.deleteAfterCommit(file.getFilePath());
+                return file;
             }
+        }
 
-            var context =
-                    FilePersistenceContext.builder()
-                            .filePath(file.getFilePath())
-                            .newPath(newPath)
-                            .contentType(file.getContentType())
-                            .originalFileName(file.getOriginalFileName())
-                            .build();
+        var context =
+                FilePersistenceContext.builder()
+                        .filePath(file.getFilePath())
+                        .newPath(
+                                contentHash != null
+                                        ? FileBlob.directoryOf(contentHash, UUID.randomUUID().toString())
+                                        : newPath)
+                        .targetFileName(
+                                contentHash != null
+                                        ? contentHash + FileUtils.getFileExtension(file.getOriginalFileName())
+                                        : null)
+                        .contentType(file.getContentType())
+                        .originalFileName(file.getOriginalFileName())
+                        .build();
+
+        file.markProcessing();
+        finalizeWorker.submitAfterCommit(file.getId(), context);
+        return file;
+    }
 
-            String persistPath = storageStrategy.persist(context);
+    /**
+     * 파일이 참조하던 저장소 객체의 참조를 끊습니다. 더 이상 참조하는 파일이 없으면 저장소 객체와 그 디렉토리(압축 해제된 파일 포함)를 커밋 후 삭제합니다.
+     * 파일 ID가 없거나 파일이 없으면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void releaseFile(Long fileId) {
+        if (fileId == null) {
+            return;
+        }
+        repository.findById(fileId).map(FileEntity::unlinkBlob).ifPresent(this::release);
+    }
 
-            file.makeComplete(persistPath);
-            return file;
+    private void release(FileBlob blob) {
+        blobRepository.decrementReferenceCount(blob.getId());
+        if (blobRepository.deleteIfUnreferenced(blob.getId()) > 0) {
+            finalizeWorker.deleteAfterCommit(blob.getStorageDirectory());
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("File Persist Exception : {}", e.getMessage());
-            throw new CustomException(INVALID_FILE_STATUS, e.getMessage());
+    /**
+     * 영구 저장된 SBM 패키지에서 층 정보를 읽고 층별 파일을 {@code sbm/{fileId}/} 아래에 저장합니다. 저장소 I/O 가 길어질 수 있으므로 트랜잭션
+     * 밖에서 처리합니다.
+     */
+    public SbmFileUploadResponse processSbmFile(Long fileId) {
+        FileEntity file = getFile(fileId);
+        if (file.getFileStatus() != FileStatus.COMPLETE) {
+            throw new CustomException(INVALID_FILE_STATUS, "영구 저장이 끝난 파일만 SBM 으로 처리할 수 있습니다");
         }
+        return sbmFileService.processSbmFile(file);
+    }
+
+    /**
+     * 파일 영구 저장 진행 상황을 구독합니다. 이미 끝났거나 아직 저장 요청 전인 파일은 현재 상태를 한 번 보내고 바로 종료합니다.
+     */
+    public SseEmitter subscribeProgress(Long fileId) {
+        FileStatus status = findFileStatus(fileId);
+        if (status != FileStatus.PROCESSING) {
+            SseEmitter emitter = new SseEmitter();
+            progressNotifier.completeImmediately(emitter, FileProgressResponse.of(fileId, status));
+            return emitter;
+        }
+
+        SseEmitter emitter = progressNotifier.subscribe(fileId);
+        // 상태 조회와 구독 사이에 작업이 끝났으면 완료 이벤트를 놓쳤으므로 다시 확인한다.
+        status = findFileStatus(fileId);
+        if (status != FileStatus.PROCESSING) {
+            progressNotifier.complete(FileProgressResponse.of(fileId, status));
+        }
+        return emitter;
+    }
+
+    private FileStatus findFileStatus(Long fileId) {
+        return repository
+                .findFileStatusById(fileId)
+                .orElseThrow(
+                        () -> new CustomException("File not found", HttpStatus.NOT_FOUND, "해당 파일을 찾을 수 없습니다"));
     }
 
     @Transactional(readOnly = true)
@@ -156,6 +304,28 @@ public class FileService {
         return getFileResponse(getFile(fileId));
     }
 
+    /**
+     * 여러 파일 ID를 IN 쿼리로 한 번에 조회하여 ID별 FileResponse 맵으로 반환합니다. null ID는 무시되며, 반환된 맵은 null 키 조회를
+     * 허용합니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FileResponse> getFileResponses(Collection<Long> fileIds) {
+        Map<Long, FileResponse> fileResponses = new HashMap<>();
+        if (fileIds == null || fileIds.isEmpty()) {
+            return fileResponses;
+        }
+
+        List<Long> ids = fileIds.stream().filter(Objects::nonNull).distinct().toList();
+        for (int from = 0; from < ids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<Long> chunk =
+                    new ArrayList<>(ids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, ids.size())));
+            repository
+                    .findAllWithBlobByIdIn(chunk)
+                    .forEach(fileEntity -> fileResponses.put(fileEntity.getId(), getFileResponse(fileEntity)));
+        }
+        return fileResponses;
+    }
+
     public FileResponse getFileResponse(FileEntity fileEntity) {
 
         if (fileEntity == null) {
@@ -164,8 +334,8 @@ public class FileService {
 
         String url =
                 "local".equals(storageStrategyType)
-                        ? "/files/" + fileEntity.getFilePath()
-                        : publicUrl + "/" + bucket + "/" + fileEntity.getFilePath();
+                        ? "/files/" + fileEntity.getStoragePath()
+                        : publicUrl + "/" + bucket + "/" + fileEntity.getStoragePath();
 
         return FileResponse.builder()
                 .id(fileEntity.getId())
@@ -6,43 +6,70 @@ import com.pluxity.file.dto.SbmFileUploadResponse;
 import com.pluxity.file.dto.SbmFloorGroup;
 import com.pluxity.file.dto.SbmFloorInfo;
 import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.strategy.storage.FilePersistenceContext;
+import com.pluxity.file.strategy.storage.FileProcessingContext;
 import com.pluxity.file.strategy.storage.S3StorageStrategy;
 import com.pluxity.file.strategy.storage.StorageStrategy;
 import com.pluxity.global.config.S3Config;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.global.utils.FileUtils;
+import com.pluxity.global.utils.ZipLimits;
+import com.pluxity.global.utils.ZipUtils;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+/**
+ * SBM 패키지(층 정보 XML 과 층별 모델 파일을 담은 압축 파일)를 처리합니다. XML 은 StAX 로 압축을 풀지 않은 채 스트리밍으로 읽고, 층별 파일은 층 그룹 단위로
+ * 병렬로 스토리지에 저장합니다. 압축 해제량은 {@link ZipLimits#DEFAULT} 한도로 제한합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SbmFileService {
 
+    private static final String SBM_PATH_PREFIX = "sbm/";
+
+    /** 층 그룹의 동시 저장 수 */
+    private static final int FLOOR_GROUP_PARALLELISM = 8;
+
+    private static final ZipLimits ZIP_LIMITS = ZipLimits.DEFAULT;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
     private final StorageStrategy storageStrategy;
     private final S3Config s3Config;
     private final S3Client s3Client;
@@ -50,17 +77,35 @@ public class SbmFileService {
     @Value("${file.local.path}")
     private String uploadPath;
 
-    public SbmFileUploadResponse processSbmFile(Path tempPath, FileEntity fileEntity) {
-        try {
-            // 파일 처리 로직
-            List<SbmFloorGroup> floorList = new ArrayList<>();
-            // 실제 SBM 파일 처리 로직 구현
-            // ...
+    /**
+     * 로컬에 있는 SBM 패키지를 처리합니다. 패키지 파일은 삭제하지 않습니다.
+     *
+     * @param packagePath SBM 패키지 경로
+     */
+    public SbmFileUploadResponse processSbmFile(Path packagePath, FileEntity fileEntity) {
+        ZipLimits.Tracker tracker = ZIP_LIMITS.tracker();
+        try (ZipFile zipFile = new ZipFile(packagePath.toFile())) {
+            Map<String, ZipEntry> entries = indexEntries(zipFile, tracker);
+            ZipEntry manifest = findManifest(entries);
+
+            List<SbmFloorInfo> floors;
+            try (InputStream entryStream = zipFile.getInputStream(manifest);
+                    InputStream manifestStream =
+                            tracker.limit(entryStream, manifest.getName(), manifest.getCompressedSize())) {
+                floors = parseFloors(manifestStream);
+            }
 
-            // 임시 파일 삭제
-            Files.deleteIfExists(tempPath);
+            String baseDir = parentOf(ZipUtils.normalizeEntryName(manifest.getName()));
+            String targetPath = SBM_PATH_PREFIX + fileEntity.getId() + "/";
+            List<SbmFloorGroup> floorList =
+                    persistFloorGroups(zipFile, entries, tracker, baseDir, targetPath, groupFloors(floors));
 
             return SbmFileUploadResponse.from(fileEntity, floorList);
+        } catch (CustomException e) {
+            throw e;
+        } catch (ZipException e) {
+            log.warn("SBM 패키지 압축 한도 초과: {}", e.getMessage());
+            throw new CustomException(INVALID_SBM_FILE, e.getMessage());
         } catch (Exception e) {
             log.error("SBM File Processing Error: {}", e.getMessage(), e);
             throw new CustomException(FAILED_TO_PROCESS_SBM_FILE, e.getMessage());
@@ -68,110 +113,303 @@ public class SbmFileService {
     }
 
     public SbmFileUploadResponse processSbmFile(FileEntity fileEntity) {
+        if (!(storageStrategy instanceof S3StorageStrategy)) {
+            // 로컬 저장소의 파일은 복사하지 않고 바로 읽는다.
+            return processSbmFile(Paths.get(uploadPath, fileEntity.getStoragePath()), fileEntity);
+        }
+
+        Path tempPath = null;
         try {
-            // S3 또는 로컬 저장소에서 파일 읽기
-            Path tempPath = FileUtils.createTempFile(fileEntity.getOriginalFileName());
-            if (storageStrategy instanceof S3StorageStrategy) {
-                // S3에서 파일 다운로드
-                GetObjectRequest getObjectRequest =
-                        GetObjectRequest.builder()
-                                .bucket(s3Config.getBucketName())
-                                .key(fileEntity.getFilePath())
-                                .build();
-
-                ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
+            // 압축 파일 임의 접근을 위해 S3 에서 한 번 내려받는다.
+            tempPath = FileUtils.createTempFile(fileEntity.getOriginalFileName());
+            GetObjectRequest getObjectRequest =
+                    GetObjectRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .key(fileEntity.getStoragePath())
+                            .build();
+
+            try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest)) {
                 Files.copy(s3Object, tempPath, StandardCopyOption.REPLACE_EXISTING);
-            } else {
-                // 로컬에서 파일 복사
-                Path sourcePath = Paths.get(uploadPath, fileEntity.getFilePath());
-                Files.copy(sourcePath, tempPath, StandardCopyOption.REPLACE_EXISTING);
             }
 
-            // 기존 로직 호출
             return processSbmFile(tempPath, fileEntity);
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("SBM File Processing Error: {}", e.getMessage(), e);
             throw new CustomException(FAILED_TO_PROCESS_SBM_FILE, e.getMessage());
+        } finally {
+            deleteQuietly(tempPath);
         }
     }
 
-    private List<SbmFloorGroup> parseFloors(Path xmlFilePath) {
-        Document doc = getDocument(xmlFilePath.toString());
-        NodeList floorNodeList = doc.getElementsByTagName("Floor");
+    /** {@code Floors} 바로 아래의 {@code Floor} 요소와 그 안의 첫 {@code FileSource} 를 읽습니다. 메모리에는 요소 경로만 유지합니다. */
+    List<SbmFloorInfo> parseFloors(InputStream xmlStream) {
+        List<SbmFloorInfo> floors = new ArrayList<>();
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlStream);
+            Deque<String> path = new ArrayDeque<>();
+            SbmFloorInfo.SbmFloorInfoBuilder floor = null;
+            boolean fileSourceRead = false;
 
-        List<SbmFloorInfo> floorInfoList =
-                new ArrayList<>(
-                        IntStream.range(0, floorNodeList.getLength())
-                                .mapToObj(floorNodeList::item)
-                                .filter(
-                                        floorNode ->
-                                                floorNode.getNodeType() == Node.ELEMENT_NODE
-                                                        && floorNode.getParentNode().getNodeName().equals("Floors"))
-                                .map(Element.class::cast)
-                                .map(this::buildSbmFloor)
-                                .toList());
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("Floor".equals(name) && "Floors".equals(path.peek())) {
+                        floor =
+                                SbmFloorInfo.builder()
+                                        .floorId(reader.getAttributeValue(null, "id"))
+                                        .floorName(reader.getAttributeValue(null, "name"))
+                                        .floorBase(reader.getAttributeValue(null, "baseFloor"))
+                                        .floorGroup(reader.getAttributeValue(null, "groupID"))
+                                        .isMain(reader.getAttributeValue(null, "isMain"));
+                        fileSourceRead = false;
+                    } else if ("FileSource".equals(name) && floor != null && !fileSourceRead) {
+                        floor.fileName(ZipUtils.normalizeEntryName(requireAttribute(reader, "name")));
+                        fileSourceRead = true;
+                    }
+                    path.push(name);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    path.pop();
+                    if ("Floor".equals(reader.getLocalName()) && floor != null && "Floors".equals(path.peek())) {
+                        if (!fileSourceRead) {
+                            throw new CustomException(INVALID_SBM_FILE, "층 파일 정보(FileSource)가 없습니다");
+                        }
+                        floors.add(floor.build());
+                        floor = null;
+                    }
+                }
+            }
+            return floors;
+        } catch (XMLStreamException e) {
+            log.error("XML 파싱 중 오류: {}", e.getMessage(), e);
+            throw new CustomException(INVALID_SBM_FILE, "XML 파싱 중 오류");
+        } catch (IOException e) {
+            throw new CustomException(INVALID_SBM_FILE, e.getMessage());
+        } finally {
+            closeQuietly(reader);
+        }
+    }
 
-        Map<String, List<SbmFloorInfo>> grouped =
-                floorInfoList.stream().collect(Collectors.groupingBy(SbmFloorInfo::floorGroup));
+    /** 그룹 ID 별로 층을 묶습니다. 그룹마다 메인 층이 하나 있어야 하며, 그룹 순서는 XML 에 나온 순서를 따릅니다. */
+    List<SbmFloorGroup> groupFloors(List<SbmFloorInfo> floors) {
+        Map<String, List<SbmFloorInfo>> grouped = new LinkedHashMap<>();
+        floors.forEach(
+                floor -> grouped.computeIfAbsent(floor.floorGroup(), key -> new ArrayList<>()).add(floor));
 
         return grouped.entrySet().stream()
-                .map(
-                        entry -> {
-                            String groupId = entry.getKey();
-                            List<SbmFloorInfo> floors = entry.getValue();
-
-                            SbmFloorInfo mainFloorOpt =
-                                    floors.stream()
-                                            .filter(floor -> "True".equalsIgnoreCase(floor.isMain()))
-                                            .findFirst()
-                                            .orElseThrow(() -> new CustomException(INVALID_SBM_FILE, "메인 층이 존재하지 않습니다"));
-
-                            return new SbmFloorGroup(groupId, mainFloorOpt, floors);
-                        })
+                .map(entry -> new SbmFloorGroup(entry.getKey(), mainFloorOf(entry.getValue()), entry.getValue()))
                 .toList();
     }
 
-    private Document getDocument(String xmlFilePath) {
+    private SbmFloorInfo mainFloorOf(List<SbmFloorInfo> floors) {
+        return floors.stream()
+                .filter(floor -> "True".equalsIgnoreCase(floor.isMain()))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(INVALID_SBM_FILE, "메인 층이 존재하지 않습니다"));
+    }
+
+    /**
+     * 층 그룹별로 가상 스레드에서 층 파일을 저장합니다. {@link ZipFile} 은 여러 스레드에서 동시에 엔트리를 읽을 수 있으므로 엔트리를 풀어 두지 않고 바로
+     * 스토리지로 보냅니다.
+     */
+    private List<SbmFloorGroup> persistFloorGroups(
+            ZipFile zipFile,
+            Map<String, ZipEntry> entries,
+            ZipLimits.Tracker tracker,
+            String baseDir,
+            String targetPath,
+            List<SbmFloorGroup> groups)
+            throws IOException {
+        Semaphore permits = new Semaphore(FLOOR_GROUP_PARALLELISM);
+        List<Future<SbmFloorGroup>> futures = new ArrayList<>(groups.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SbmFloorGroup group : groups) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    permits.acquire();
+                                    try {
+                                        return persistFloorGroup(
+                                                zipFile, entries, tracker, baseDir, targetPath, group);
+                                    } finally {
+                                        permits.release();
+                                    }
+                                }));
+            }
+
+            List<SbmFloorGroup> persisted = new ArrayList<>(groups.size());
+            for (Future<SbmFloorGroup> future : futures) {
+                persisted.add(future.get());
+            }
+            return persisted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IOException("SBM 층 파일 저장이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private SbmFloorGroup persistFloorGroup(
+            ZipFile zipFile,
+            Map<String, ZipEntry> entries,
+            ZipLimits.Tracker tracker,
+            String baseDir,
+            String targetPath,
+            SbmFloorGroup group)
+            throws Exception {
+        List<SbmFloorInfo> persisted = new ArrayList<>(group.floorInfoList().size());
+        SbmFloorInfo mainFloor = null;
+        for (SbmFloorInfo floor : group.floorInfoList()) {
+            SbmFloorInfo persistedFloor =
+                    floor.toBuilder()
+                            .filePath(
+                                    persistFloorFile(
+                                            zipFile, entries, tracker, baseDir, floor.fileName(), targetPath))
+                            .build();
+            persisted.add(persistedFloor);
+            if (floor == group.mainFloorInfo()) {
+                mainFloor = persistedFloor;
+            }
+        }
+        return new SbmFloorGroup(group.floorId(), mainFloor, persisted);
+    }
+
+    /**
+     * 층 파일을 저장합니다. 같은 이름의 파일이 다른 폴더에 있을 수 있으므로 저장 경로에는 층 정보 XML 기준의 상대 경로({@code relativePath})를 그대로
+     * 사용합니다.
+     */
+    private String persistFloorFile(
+            ZipFile zipFile,
+            Map<String, ZipEntry> entries,
+            ZipLimits.Tracker tracker,
+            String baseDir,
+            String relativePath,
+            String targetPath)
+            throws Exception {
+        String entryName = baseDir + relativePath;
+        ZipEntry entry = entries.get(entryName);
+        if (entry == null) {
+            throw new CustomException(INVALID_SBM_FILE, "층 파일이 존재하지 않습니다: " + entryName);
+        }
+
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        String contentType =
+                MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+
+        String tempPath;
+        try (InputStream entryStream = zipFile.getInputStream(entry);
+                InputStream inputStream = tracker.limit(entryStream, entryName, entry.getCompressedSize())) {
+            tempPath =
+                    storageStrategy.save(
+                            inputStream,
+                            entry.getSize(),
+                            FileProcessingContext.builder()
+                                    .contentType(contentType)
+                                    .originalFileName(fileName)
+                                    .build());
+        }
+
+        return storageStrategy.persist(
+                FilePersistenceContext.builder()
+                        .filePath(tempPath)
+                        .newPath(targetPath)
+                        .targetFileName(relativePath)
+                        .contentType(contentType)
+                        .originalFileName(fileName)
+                        .build());
+    }
+
+    /** 엔트리를 정규화한 이름으로 색인하면서, 선언된 크기로 엔트리 수, 전체 크기, 압축률 한도를 미리 검사합니다. */
+    private Map<String, ZipEntry> indexEntries(ZipFile zipFile, ZipLimits.Tracker tracker)
+            throws IOException {
+        Map<String, ZipEntry> entries = new HashMap<>();
+        long declaredTotalSize = 0;
+        for (ZipEntry entry : zipFile.stream().toList()) {
+            tracker.addEntry(entry.getName());
+            if (entry.isDirectory()) {
+                continue;
+            }
+            if (entry.getSize() > 0) {
+                declaredTotalSize += entry.getSize();
+                tracker.checkRatio(entry.getName(), entry.getSize(), entry.getCompressedSize());
+            }
+            entries.put(ZipUtils.normalizeEntryName(entry.getName()), entry);
+        }
+        if (declaredTotalSize > ZIP_LIMITS.maxTotalSize()) {
+            throw new ZipException(
+                    "ZIP 해제 크기가 한도(" + ZIP_LIMITS.maxTotalSize() + " bytes)를 초과했습니다");
+        }
+        return entries;
+    }
+
+    /** 가장 얕은 위치의 XML 파일을 층 정보 파일로 사용합니다. */
+    private ZipEntry findManifest(Map<String, ZipEntry> entries) {
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().endsWith(".xml"))
+                .min(
+                        Comparator.comparingLong((Map.Entry<String, ZipEntry> entry) -> depthOf(entry.getKey()))
+                                .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getValue)
+                .orElseThrow(() -> new CustomException(INVALID_SBM_FILE, "층 정보 XML 파일이 없습니다"));
+    }
+
+    private long depthOf(String entryName) {
+        return entryName.chars().filter(c -> c == '/').count();
+    }
+
+    private String parentOf(String entryName) {
+        int lastSlash = entryName.lastIndexOf('/');
+        return lastSlash == -1 ? "" : entryName.substring(0, lastSlash + 1);
+    }
+
+    private String requireAttribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        if (value == null || value.isBlank()) {
+            throw new CustomException(INVALID_SBM_FILE, "FileSource 에 " + name + " 속성이 없습니다");
+        }
+        return value;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 를 처리하지 않는다 (XXE 방지).
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
         try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(xmlFilePath);
-            doc.getDocumentElement().normalize();
-            return doc;
-        } catch (ParserConfigurationException e) {
-            log.error("XML 파싱 설정 오류: {}", e.getMessage(), e);
-            throw new CustomException(INVALID_SBM_FILE, "XML 파싱 설정 오류");
-        } catch (SAXException e) {
-            log.error("XML 파싱 중 오류: {}", e.getMessage(), e);
-            throw new CustomException(INVALID_SBM_FILE, "XML 파싱 중 오류");
-        } catch (IOException e) {
-            log.error("XML 파일 읽기 오류: {}", e.getMessage(), e);
-            throw new CustomException(INVALID_SBM_FILE, "XML 파일 읽기 오류");
+            reader.close();
+        } catch (XMLStreamException e) {
+            log.warn("XML 리더 종료 실패: {}", e.getMessage());
         }
     }
 
-    private SbmFloorInfo buildSbmFloor(Element floorElement) {
-        String id = floorElement.getAttribute("id");
-        String name = floorElement.getAttribute("name");
-        String baseFloor = floorElement.getAttribute("baseFloor");
-        String groupID = floorElement.getAttribute("groupID");
-        String isMain = floorElement.getAttribute("isMain");
-        String fileFileName =
-                floorElement
-                        .getElementsByTagName("FileSource")
-                        .item(0)
-                        .getAttributes()
-                        .getNamedItem("name")
-                        .getNodeValue()
-                        .substring(2);
-
-        return SbmFloorInfo.builder()
-                .floorId(id)
-                .floorName(name)
-                .fileName(fileFileName)
-                .floorBase(baseFloor)
-                .floorGroup(groupID)
-                .isMain(isMain)
-                .build();
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
     }
 }
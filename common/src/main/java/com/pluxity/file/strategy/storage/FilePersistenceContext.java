@@ -4,4 +4,16 @@ import lombok.Builder;
 
 @Builder
 public record FilePersistenceContext(
-        String filePath, String newPath, String contentType, String originalFileName) {}
+        String filePath,
+        String newPath,
+        String contentType,
+        String originalFileName,
+        String targetFileName,
+        ProgressListener progressListener) {
+
+    public FilePersistenceContext {
+        if (progressListener == null) {
+            progressListener = ProgressListener.NONE;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static com.pluxity.global.constant.ErrorCode.FAILED_TO_ZIP_FILE;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.global.utils.FileUtils;
 import com.pluxity.global.utils.UUIDUtils;
+import com.pluxity.global.utils.ZipLimits;
 import com.pluxity.global.utils.ZipUtils;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,11 +23,15 @@ import org.springframework.beans.factory.annotation.Value;
 @Slf4j
 public class LocalStorageStrategy implements StorageStrategy {
 
+    private static final String PART_FILE_SUFFIX = ".part";
+
     @Value("${file.local.path}")
     private String uploadPath;
 
+    /** 같은 디렉토리의 부분 파일에 한 번 쓴 뒤 원자적으로 이름을 바꾸므로, 쓰는 중인 파일이 최종 경로에 노출되지 않습니다. */
     @Override
-    public String save(FileProcessingContext context) {
+    public String save(InputStream inputStream, long contentLength, FileProcessingContext context) {
+        Path partPath = null;
         try {
             String uniqueFileName = UUIDUtils.generateUUID();
             String fileExtension = FileUtils.getFileExtension(context.originalFileName());
@@ -35,13 +40,15 @@ public class LocalStorageStrategy implements StorageStrategy {
             // 임시저장을 위한 temp 디렉토리 경로 (uploadPath/temp)
             Path tempDir = Paths.get(uploadPath, "temp");
             Files.createDirectories(tempDir);
-            Path filePath = tempDir.resolve(fileName);
+            partPath = tempDir.resolve(fileName + PART_FILE_SUFFIX);
 
-            Files.copy(context.tempPath(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(inputStream, partPath);
+            Files.move(partPath, tempDir.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
 
             return "temp/" + fileName;
         } catch (Exception e) {
             log.error("Failed to save file: {}", e.getMessage());
+            deleteQuietly(partPath);
             throw new CustomException(FAILED_TO_UPLOAD_FILE);
         }
     }
@@ -52,28 +59,58 @@ public class LocalStorageStrategy implements StorageStrategy {
             Path sourcePath = Paths.get(uploadPath, context.filePath());
             Path targetDir = Paths.get(uploadPath, context.newPath());
 
-            String fileName = UUIDUtils.generateShortUUID();
-            String extension = FileUtils.getFileExtension(context.originalFileName());
+            String fileName =
+                    context.targetFileName() != null
+                            ? context.targetFileName()
+                            : UUIDUtils.generateShortUUID()
+                                    + FileUtils.getFileExtension(context.originalFileName());
 
-            Path targetPath = targetDir.resolve(fileName + extension);
+            // targetFileName 은 하위 폴더를 포함한 상대 경로일 수 있다.
+            Path targetPath = targetDir.resolve(fileName).normalize();
+            if (!targetPath.startsWith(targetDir.normalize())) {
+                throw new CustomException(FAILED_TO_UPLOAD_FILE);
+            }
 
-            Files.createDirectories(targetDir);
+            Files.createDirectories(targetPath.getParent());
             Files.move(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
 
-            return context.newPath() + targetPath.getFileName();
+            if (isZip(context, targetPath)) {
+                decompressAndMove(targetPath, targetDir);
+            }
+
+            String relativePath = targetDir.normalize().relativize(targetPath).toString();
+            return context.newPath() + relativePath.replace('\\', '/');
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to persist file: {}", e.getMessage());
             throw new CustomException(FAILED_TO_UPLOAD_FILE);
         }
     }
 
+    @Override
+    public void delete(String path) throws IOException {
+        Path target = Paths.get(uploadPath, path);
+        if (path.endsWith("/")) {
+            if (Files.isDirectory(target)) {
+                FileUtils.deleteDirectoryRecursively(target);
+            }
+            return;
+        }
+        Files.deleteIfExists(target);
+    }
+
+    private boolean isZip(FilePersistenceContext context, Path targetPath) {
+        return "application/zip".equalsIgnoreCase(context.contentType())
+                || targetPath.getFileName().toString().endsWith(".zip");
+    }
+
+    /** 대상 디렉토리 안의 임시 디렉토리에 병렬로 압축을 푼 뒤 옮기므로, 이동은 같은 파일 시스템 안의 이름 변경으로 끝납니다. */
     private void decompressAndMove(Path zipFilePath, Path baseDirPath) {
         Path tempDir = null;
         try {
-            tempDir = FileUtils.createTempDirectory("unzipped");
-            try (InputStream is = Files.newInputStream(zipFilePath)) {
-                ZipUtils.unzip(is, tempDir);
-            }
+            tempDir = Files.createTempDirectory(baseDirPath, ".unzip-");
+            ZipUtils.unzipParallel(zipFilePath, tempDir, ZipLimits.DEFAULT);
 
             moveDirectory(tempDir, baseDirPath);
 
@@ -109,4 +146,15 @@ public class LocalStorageStrategy implements StorageStrategy {
                             });
         }
     }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
 }
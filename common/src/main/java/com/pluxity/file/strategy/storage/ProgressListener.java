@@ -0,0 +1,14 @@
+package com.pluxity.file.strategy.storage;
+
+/** 스토리지 작업의 진행 상황을 전달받습니다. */
+@FunctionalInterface
+public interface ProgressListener {
+
+    ProgressListener NONE = (completed, total) -> {};
+
+    /**
+     * @param completed 완료된 작업 수 (예: 업로드된 압축 엔트리 수)
+     * @param total 전체 작업 수 (아직 알 수 없으면 -1)
+     */
+    void onProgress(long completed, long total);
+}
@@ -1,39 +1,82 @@
 package com.pluxity.file.strategy.storage;
 
-import static com.pluxity.global.constant.ErrorCode.FAILED_TO_UPLOAD_FILE;
 import static com.pluxity.global.constant.ErrorCode.FAILED_TO_ZIP_FILE;
 
 import com.pluxity.global.config.S3Config;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.global.utils.FileUtils;
 import com.pluxity.global.utils.UUIDUtils;
+import com.pluxity.global.utils.ZipLimits;
 import com.pluxity.global.utils.ZipUtils;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @RequiredArgsConstructor
 @Slf4j
 public class S3StorageStrategy implements StorageStrategy {
 
+    /** 멀티파트 업로드 파트 크기. S3 의 최소 파트 크기(5MB)보다 커야 합니다. */
+    private static final int MULTIPART_PART_SIZE = 8 * 1024 * 1024;
+
+    /** 압축 해제된 엔트리의 동시 업로드 수 */
+    private static final int UPLOAD_PARALLELISM = 16;
+
+    /** 이 크기 미만의 엔트리는 메모리에서 바로 업로드합니다. 메모리 사용량은 최대 UPLOAD_PARALLELISM 배입니다. */
+    private static final int IN_MEMORY_ENTRY_LIMIT = 4 * 1024 * 1024;
+
+    private static final int ZIP_READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Config s3Config;
     private final S3Client s3Client;
 
+    /**
+     * 스트림을 S3 로 바로 전송합니다. 길이가 파트 크기 이하이면 단일 PUT 으로, 그보다 크거나 길이를 모르면 멀티파트 업로드로 파트 단위씩 읽어 올리므로 메모리에는
+     * 파트 하나만 유지됩니다.
+     */
     @Override
-    public String save(FileProcessingContext context) throws Exception {
+    public String save(InputStream inputStream, long contentLength, FileProcessingContext context)
+            throws IOException {
         String s3Key =
                 "temp/"
                         + UUID.randomUUID()
@@ -41,23 +84,104 @@ public class S3StorageStrategy implements StorageStrategy {
                         + UUIDUtils.generateShortUUID()
                         + FileUtils.getFileExtension(context.originalFileName());
 
-        PutObjectRequest putObjectRequest =
-                PutObjectRequest.builder()
-                        .bucket(s3Config.getBucketName())
-                        .key(s3Key)
-                        .contentType(context.contentType())
-                        .build();
+        if (contentLength >= 0 && contentLength <= MULTIPART_PART_SIZE) {
+            PutObjectRequest putObjectRequest =
+                    PutObjectRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .key(s3Key)
+                            .contentType(context.contentType())
+                            .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromFile(context.tempPath().toFile()));
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+        } else {
+            multipartUpload(s3Key, context.contentType(), inputStream);
+        }
 
         return s3Key;
     }
 
+    private void multipartUpload(String s3Key, String contentType, InputStream inputStream)
+            throws IOException {
+        String uploadId =
+                s3Client
+                        .createMultipartUpload(
+                                CreateMultipartUploadRequest.builder()
+                                        .bucket(s3Config.getBucketName())
+                                        .key(s3Key)
+                                        .contentType(contentType)
+                                        .build())
+                        .uploadId();
+
+        try {
+            List<CompletedPart> completedParts = new ArrayList<>();
+            byte[] buffer = new byte[MULTIPART_PART_SIZE];
+            int bytesRead;
+            while ((bytesRead = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                int partNumber = completedParts.size() + 1;
+                UploadPartRequest uploadPartRequest =
+                        UploadPartRequest.builder()
+                                .bucket(s3Config.getBucketName())
+                                .key(s3Key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) bytesRead)
+                                .build();
+                String eTag =
+                        s3Client
+                                .uploadPart(
+                                        uploadPartRequest,
+                                        RequestBody.fromInputStream(
+                                                new ByteArrayInputStream(buffer, 0, bytesRead), bytesRead))
+                                .eTag();
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            if (completedParts.isEmpty()) {
+                abortMultipartUpload(s3Key, uploadId);
+                s3Client.putObject(
+                        PutObjectRequest.builder()
+                                .bucket(s3Config.getBucketName())
+                                .key(s3Key)
+                                .contentType(contentType)
+                                .build(),
+                        RequestBody.empty());
+                return;
+            }
+
+            s3Client.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                            .build());
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(s3Key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .build());
+        } catch (Exception e) {
+            log.warn("멀티파트 업로드 취소 실패 (key: {}): {}", s3Key, e.getMessage());
+        }
+    }
+
     @Override
     public String persist(FilePersistenceContext context) {
 
         String oldKey = context.filePath();
-        String persistKey = oldKey.replace("temp/", context.newPath());
+        String persistKey =
+                context.targetFileName() != null
+                        ? context.newPath() + context.targetFileName()
+                        : oldKey.replace("temp/", context.newPath());
 
         CopyObjectRequest copyRequest =
                 CopyObjectRequest.builder()
@@ -69,7 +193,7 @@ public class S3StorageStrategy implements StorageStrategy {
         s3Client.copyObject(copyRequest);
 
         if (context.contentType().equalsIgnoreCase("application/zip") || persistKey.endsWith(".zip")) {
-            decompressAndUpload(persistKey);
+            decompressAndUpload(persistKey, context.progressListener());
         }
 
         DeleteObjectRequest deleteRequest =
@@ -80,79 +204,181 @@ public class S3StorageStrategy implements StorageStrategy {
         return persistKey;
     }
 
-    private void decompressAndUpload(String persistKey) {
-        Path tempZipFilePath = null;
-        Path tempDir = null;
-        try {
-            tempZipFilePath = FileUtils.createTempFile(".zip");
-
-            GetObjectRequest getObjectRequest =
-                    GetObjectRequest.builder().bucket(s3Config.getBucketName()).key(persistKey).build();
-
-            try (InputStream s3ObjectContent = s3Client.getObject(getObjectRequest);
-                    OutputStream outputStream =
-                            Files.newOutputStream(
-                                    tempZipFilePath,
-                                    StandardOpenOption.CREATE,
-                                    StandardOpenOption.TRUNCATE_EXISTING)) {
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                while ((bytesRead = s3ObjectContent.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
+    @Override
+    public void delete(String path) {
+        if (!path.endsWith("/")) {
+            s3Client.deleteObject(
+                    DeleteObjectRequest.builder().bucket(s3Config.getBucketName()).key(path).build());
+            return;
+        }
+
+        ListObjectsV2Request listRequest =
+                ListObjectsV2Request.builder().bucket(s3Config.getBucketName()).prefix(path).build();
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+            deleteKeys(page.contents().stream().map(S3Object::key).toList());
+        }
+    }
+
+    /** DeleteObjects 한 번에 최대 1000개까지 지울 수 있으므로 나누어 삭제합니다. */
+    private void deleteKeys(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> identifiers =
+                    keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size())).stream()
+                            .map(key -> ObjectIdentifier.builder().key(key).build())
+                            .toList();
+            s3Client.deleteObjects(
+                    DeleteObjectsRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                            .build());
+        }
+    }
+
+    /**
+     * 압축 파일을 S3 에서 스트리밍으로 읽으면서 엔트리별로 풀어, 풀린 엔트리는 가상 스레드에서 동시에 업로드합니다. 동시 업로드 수는 {@link
+     * #UPLOAD_PARALLELISM} 으로 제한되며, 엔트리는 {@link #IN_MEMORY_ENTRY_LIMIT} 이하이면 메모리에, 그보다 크면 임시 파일에 담깁니다. 압축
+     * 파일 전체를 임시 파일로 내려받거나 디렉토리에 풀어 두지 않습니다. 업로드가 하나라도 실패하면 남은 엔트리는 읽지 않고, 진행 중인 업로드가 끝난 뒤
+     * 이미 올라간 엔트리를 삭제합니다.
+     */
+    private void decompressAndUpload(String persistKey, ProgressListener progressListener) {
+        int lastSlashIndex = persistKey.lastIndexOf('/');
+        String baseFolder =
+                (lastSlashIndex != -1) ? persistKey.substring(0, lastSlashIndex) : persistKey;
+
+        GetObjectRequest getObjectRequest =
+                GetObjectRequest.builder().bucket(s3Config.getBucketName()).key(persistKey).build();
+
+        Semaphore permits = new Semaphore(UPLOAD_PARALLELISM);
+        AtomicLong completed = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        ZipLimits.Tracker limits = ZipLimits.DEFAULT.tracker();
+        List<Future<?>> uploads = new ArrayList<>();
+        Queue<String> uploadedKeys = new ConcurrentLinkedQueue<>();
+
+        try (InputStream s3ObjectContent = s3Client.getObject(getObjectRequest);
+                ZipInputStream zis =
+                        new ZipInputStream(
+                                new BufferedInputStream(s3ObjectContent, ZIP_READ_BUFFER_SIZE),
+                                StandardCharsets.UTF_8);
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            ZipEntry zipEntry;
+            // 업로드가 하나라도 실패하면 나머지 엔트리는 읽지 않습니다.
+            while (!failed.get() && (zipEntry = zis.getNextEntry()) != null) {
+                if (zipEntry.isDirectory()) {
+                    continue;
                 }
-            }
 
-            tempDir = FileUtils.createTempDirectory("unzipped");
-            try (InputStream is = Files.newInputStream(tempZipFilePath)) {
-                ZipUtils.unzip(is, tempDir);
+                String entryName = ZipUtils.normalizeEntryName(zipEntry.getName());
+                if (entryName.isEmpty()) {
+                    continue;
+                }
+
+                String key = baseFolder + "/" + entryName;
+                limits.addEntry(entryName);
+                permits.acquire();
+                EntryContent content =
+                        readEntry(
+                                limits.limit(zis, entryName, zipEntry.getCompressedSize()), permits);
+
+                uploads.add(
+                        executor.submit(
+                                () -> {
+                                    try {
+                                        uploadEntry(key, content);
+                                        uploadedKeys.add(key);
+                                        progressListener.onProgress(completed.incrementAndGet(), -1);
+                                    } catch (Exception e) {
+                                        failed.set(true);
+                                        throw e;
+                                    } finally {
+                                        content.discard();
+                                        permits.release();
+                                    }
+                                    return null;
+                                }));
+                zis.closeEntry();
             }
 
-            int lastSlashIndex = persistKey.lastIndexOf('/');
-            String baseFolder =
-                    (lastSlashIndex != -1) ? persistKey.substring(0, lastSlashIndex) : persistKey;
-            uploadDirectoryToS3(tempDir, baseFolder);
+            for (Future<?> upload : uploads) {
+                upload.get();
+            }
+            progressListener.onProgress(completed.get(), completed.get());
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteUploadedEntries(persistKey, uploadedKeys);
+            throw new CustomException(FAILED_TO_ZIP_FILE, "압축 파일 처리 중 오류 발생");
         } catch (Exception e) {
             log.error("압축 파일 처리 중 오류 발생 (zipKey: {}): {}", persistKey, e.getMessage(), e);
+            deleteUploadedEntries(persistKey, uploadedKeys);
             throw new CustomException(FAILED_TO_ZIP_FILE, "압축 파일 처리 중 오류 발생");
-        } finally {
-            if (tempZipFilePath != null) {
-                try {
-                    Files.deleteIfExists(tempZipFilePath);
-                } catch (IOException ex) {
-                    log.warn("임시 ZIP 파일 삭제 실패: {}", tempZipFilePath, ex);
-                }
+        }
+    }
+
+    /**
+     * 실패한 압축 해제에서 이미 올라간 엔트리를 지웁니다. 작업 스레드는 모두 끝난 뒤이므로 목록이 더 늘어나지 않습니다. 삭제에 실패해도 원래 오류를
+     * 전달하도록 예외는 기록만 합니다.
+     */
+    private void deleteUploadedEntries(String persistKey, Queue<String> uploadedKeys) {
+        if (uploadedKeys.isEmpty()) {
+            return;
+        }
+        try {
+            deleteKeys(List.copyOf(uploadedKeys));
+        } catch (Exception e) {
+            log.warn("압축 해제 실패 후 업로드된 엔트리 삭제 실패 (zipKey: {}): {}", persistKey, e.getMessage());
+        }
+    }
+
+    private EntryContent readEntry(InputStream entryStream, Semaphore permits) throws IOException {
+        try {
+            return EntryContent.read(entryStream);
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void uploadEntry(String key, EntryContent content) throws IOException {
+        PutObjectRequest putObjectRequest =
+                PutObjectRequest.builder().bucket(s3Config.getBucketName()).key(key).build();
+        s3Client.putObject(putObjectRequest, content.toRequestBody());
+    }
+
+    /** 압축 해제된 엔트리 하나의 내용. 작은 엔트리는 메모리에, 큰 엔트리는 임시 파일에 보관합니다. */
+    private record EntryContent(byte[] bytes, Path spillFile) {
+
+        static EntryContent read(InputStream entryStream) throws IOException {
+            byte[] head = entryStream.readNBytes(IN_MEMORY_ENTRY_LIMIT);
+            if (head.length < IN_MEMORY_ENTRY_LIMIT) {
+                return new EntryContent(head, null);
             }
 
-            if (tempDir != null) {
-                try {
-                    FileUtils.deleteDirectoryRecursively(tempDir);
-                } catch (IOException ex) {
-                    log.warn("임시 디렉토리 삭제 실패: {}", tempDir, ex);
-                }
+            Path spillFile = FileUtils.createTempFile("zip-entry");
+            try (OutputStream outputStream = Files.newOutputStream(spillFile)) {
+                outputStream.write(head);
+                entryStream.transferTo(outputStream);
+            } catch (IOException e) {
+                Files.deleteIfExists(spillFile);
+                throw e;
             }
+            return new EntryContent(null, spillFile);
         }
-    }
 
-    private void uploadDirectoryToS3(Path dir, String s3BaseKey) {
-        try (Stream<Path> paths = Files.walk(dir)) { // try-with-resources 사용
-            paths
-                    .filter(Files::isRegularFile)
-                    .forEach(
-                            path -> {
-                                try {
-                                    String relativePath = dir.relativize(path).toString().replace("\\", "/");
-                                    String key = s3BaseKey + "/" + relativePath;
-                                    PutObjectRequest putObjectRequest =
-                                            PutObjectRequest.builder().bucket(s3Config.getBucketName()).key(key).build();
-                                    s3Client.putObject(putObjectRequest, RequestBody.fromFile(path.toFile()));
-                                } catch (Exception e) {
-                                    log.error("Failed to upload file {}: {}", path, e.getMessage());
-                                }
-                            });
-        } catch (IOException e) {
-            log.error("압축 해제 된 파일 업로드 실패 {}: {}", dir, e.getMessage());
-            throw new CustomException(FAILED_TO_UPLOAD_FILE);
+        RequestBody toRequestBody() {
+            return spillFile == null ? RequestBody.fromBytes(bytes) : RequestBody.fromFile(spillFile);
+        }
+
+        void discard() {
+            if (spillFile == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                log.warn("임시 엔트리 파일 삭제 실패: {}", spillFile, e);
+            }
         }
     }
 }
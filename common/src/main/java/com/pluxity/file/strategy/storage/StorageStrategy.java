@@ -1,7 +1,31 @@
 package com.pluxity.file.strategy.storage;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+
 public interface StorageStrategy {
-    String save(FileProcessingContext context) throws Exception;
+    default String save(FileProcessingContext context) throws Exception {
+        try (InputStream inputStream = Files.newInputStream(context.tempPath())) {
+            return save(inputStream, Files.size(context.tempPath()), context);
+        }
+    }
+
+    /**
+     * 입력 스트림을 중간 임시 파일 없이 스토리지의 임시 영역에 바로 저장합니다.
+     *
+     * @param contentLength 스트림 길이 (알 수 없으면 -1)
+     * @return 저장된 임시 경로
+     */
+    String save(InputStream inputStream, long contentLength, FileProcessingContext context)
+            throws Exception;
 
+    /**
+     * 임시 파일을 {@code newPath} 아래로 옮깁니다. {@code targetFileName} 이 주어지면 그 이름으로, 아니면 임의의 이름으로 저장합니다.
+     *
+     * @return 영구 저장된 경로
+     */
     String persist(FilePersistenceContext context) throws Exception;
+
+    /** 저장된 파일을 삭제합니다. 경로가 '/' 로 끝나면 그 아래의 파일을 모두 삭제합니다. */
+    void delete(String path) throws Exception;
 }
@@ -5,6 +5,7 @@ import static com.pluxity.global.constant.ErrorCode.NOT_FOUND_USER;
 import com.pluxity.authentication.security.CustomUserDetails;
 import com.pluxity.authentication.security.JwtAuthenticationFilter;
 import com.pluxity.authentication.security.JwtProvider;
+import com.pluxity.authentication.security.PrincipalCache;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.user.repository.UserRepository;
 import java.util.List;
@@ -38,6 +39,7 @@ public class CommonSecurityConfig {
 
     private final UserRepository repository;
     private final JwtProvider jwtProvider;
+    private final PrincipalCache principalCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -114,7 +116,7 @@ public class CommonSecurityConfig {
     @Bean
     @ConditionalOnMissingBean(name = "sasangJwtAuthenticationFilter")
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider, userDetailsService());
+        return new JwtAuthenticationFilter(jwtProvider, principalCache::resolve);
     }
 
     @Bean
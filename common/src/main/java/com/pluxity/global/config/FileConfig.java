@@ -1,6 +1,9 @@
 package com.pluxity.global.config;
 
+import com.pluxity.file.repository.FileBlobRepository;
 import com.pluxity.file.repository.FileRepository;
+import com.pluxity.file.service.FileFinalizeWorker;
+import com.pluxity.file.service.FileProgressNotifier;
 import com.pluxity.file.service.FileService;
 import com.pluxity.file.service.SbmFileService;
 import com.pluxity.file.strategy.storage.LocalStorageStrategy;
@@ -19,10 +22,21 @@ public class FileConfig {
     public FileService fileService(
             StorageStrategy storageStrategy,
             FileRepository fileRepository,
+            FileBlobRepository fileBlobRepository,
             SbmFileService sbmFileService,
+            FileFinalizeWorker fileFinalizeWorker,
+            FileProgressNotifier fileProgressNotifier,
             S3Config s3Config,
             S3Presigner s3Presigner) {
-        return new FileService(s3Presigner, s3Config, storageStrategy, fileRepository, sbmFileService);
+        return new FileService(
+                s3Presigner,
+                s3Config,
+                storageStrategy,
+                fileRepository,
+                fileBlobRepository,
+                sbmFileService,
+                fileFinalizeWorker,
+                fileProgressNotifier);
     }
 
     @Bean
@@ -0,0 +1,21 @@
+package com.pluxity.global.entity;
+
+import com.pluxity.global.utils.ETagUtils;
+import java.time.LocalDateTime;
+
+/**
+ * 리소스(또는 컬렉션)의 버전 스냅샷. 조회 대상 건수와 연관 엔티티까지 포함한 최종 수정 시각으로 구성됩니다.
+ *
+ * @param count 조회 대상 건수 (대상이 없으면 0)
+ * @param lastModified 대상과 응답에 포함되는 연관 엔티티(연결된 파일 포함) 중 가장 최근 updated_at
+ */
+public record ResourceVersion(Long count, LocalDateTime lastModified) {
+
+    public boolean exists() {
+        return count != null && count > 0;
+    }
+
+    public String toETag(String name) {
+        return ETagUtils.weak(name, count, lastModified);
+    }
+}
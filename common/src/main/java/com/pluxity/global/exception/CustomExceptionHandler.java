@@ -14,6 +14,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
@@ -76,6 +77,28 @@ public class CustomExceptionHandler {
                 ErrorResponseBody.of(HttpStatus.BAD_REQUEST, errorMessage), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponseBody> handleHandlerMethodValidation(
+            HandlerMethodValidationException e) {
+        LOGGER.error("Parameter Validation Error", e);
+
+        String errorMessage =
+                e.getAllValidationResults().stream()
+                        .flatMap(
+                                result ->
+                                        result.getResolvableErrors().stream()
+                                                .map(
+                                                        error ->
+                                                                String.format(
+                                                                        "%s: %s",
+                                                                        result.getMethodParameter().getParameterName(),
+                                                                        error.getDefaultMessage())))
+                        .collect(Collectors.joining(", "));
+
+        return new ResponseEntity<>(
+                ErrorResponseBody.of(HttpStatus.BAD_REQUEST, errorMessage), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponseBody> handleHttpMessageNotReadableException(
             HttpMessageNotReadableException ex) {
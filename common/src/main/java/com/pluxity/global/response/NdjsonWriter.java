@@ -0,0 +1,46 @@
+package com.pluxity.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+/**
+ * NDJSON(application/x-ndjson) 응답을 한 줄에 한 객체씩 직렬화합니다. 대량 목록을 {@code StreamingResponseBody}로 내보낼 때
+ * 전체 목록을 메모리에 올리지 않고 청크 단위로 기록/flush 하기 위해 사용합니다.
+ */
+public class NdjsonWriter implements Flushable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectWriter objectWriter;
+    private final OutputStream outputStream;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.outputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+    }
+
+    public void write(Object value) throws IOException {
+        objectWriter.writeValue(outputStream, value);
+        outputStream.write(LINE_SEPARATOR);
+    }
+
+    /** 청크의 모든 항목을 기록한 뒤 클라이언트로 flush 합니다. */
+    public void writeAll(Collection<?> values) throws IOException {
+        for (Object value : values) {
+            write(value);
+        }
+        flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,12 @@
+package com.pluxity.global.response;
+
+import java.util.List;
+
+public record PageResponse<T>(
+        List<T> content, int page, int size, long totalElements, int totalPages) {
+
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements) {
+        int totalPages = size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+        return new PageResponse<>(content, page, size, totalElements, totalPages);
+    }
+}
@@ -0,0 +1,27 @@
+package com.pluxity.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조건부 GET(If-None-Match) 처리를 위한 약한(weak) ETag 생성 유틸리티.
+ *
+ * <p>본문을 직렬화하지 않고 updated_at, 건수 등 버전 구성 요소만으로 태그를 만들어, 변경이 없는 폴링 요청은 DTO 조립 전에 304로 응답할 수
+ * 있게 합니다.
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    public static String weak(String name, Object... parts) {
+        String source =
+                Arrays.stream(parts)
+                        .map(part -> Objects.toString(part, "-"))
+                        .collect(Collectors.joining("|", name + "|", ""));
+        String digest = DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + name + "-" + digest + "\"";
+    }
+}
@@ -0,0 +1,96 @@
+package com.pluxity.global.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipException;
+
+/**
+ * 압축 해제 시 허용 한도 (zip bomb 방지).
+ *
+ * @param maxEntries 최대 엔트리 수
+ * @param maxTotalSize 압축 해제된 전체 크기의 최대값 (바이트)
+ * @param maxCompressionRatio 엔트리별 최대 압축률 (해제 크기 / 압축 크기). {@link #RATIO_CHECK_THRESHOLD} 보다 큰 엔트리에만
+ *     적용됩니다.
+ */
+public record ZipLimits(int maxEntries, long maxTotalSize, double maxCompressionRatio) {
+
+    /** 작은 파일은 압축률이 높아도 위험하지 않으므로 이 크기를 넘는 엔트리부터 압축률을 검사합니다. */
+    public static final long RATIO_CHECK_THRESHOLD = 1024 * 1024;
+
+    public static final ZipLimits DEFAULT = new ZipLimits(10_000, 4L * 1024 * 1024 * 1024, 200);
+
+    public Tracker tracker() {
+        return new Tracker(this);
+    }
+
+    /** 한 압축 파일의 해제 진행량을 누적해 한도를 검사합니다. 여러 스레드에서 동시에 사용할 수 있습니다. */
+    public static final class Tracker {
+
+        private final ZipLimits limits;
+        private final AtomicInteger entries = new AtomicInteger();
+        private final AtomicLong totalSize = new AtomicLong();
+
+        private Tracker(ZipLimits limits) {
+            this.limits = limits;
+        }
+
+        public void addEntry(String entryName) throws ZipException {
+            if (entries.incrementAndGet() > limits.maxEntries()) {
+                throw new ZipException(
+                        "ZIP 엔트리 수가 한도(" + limits.maxEntries() + ")를 초과했습니다: " + entryName);
+            }
+        }
+
+        public void addBytes(long bytes) throws ZipException {
+            if (totalSize.addAndGet(bytes) > limits.maxTotalSize()) {
+                throw new ZipException("ZIP 해제 크기가 한도(" + limits.maxTotalSize() + " bytes)를 초과했습니다");
+            }
+        }
+
+        public void checkRatio(String entryName, long size, long compressedSize) throws ZipException {
+            if (size <= RATIO_CHECK_THRESHOLD || compressedSize <= 0) {
+                return;
+            }
+            if ((double) size / compressedSize > limits.maxCompressionRatio()) {
+                throw new ZipException("ZIP 엔트리의 압축률이 한도를 초과했습니다: " + entryName);
+            }
+        }
+
+        /** 읽은 바이트를 누적하며 전체 크기와 압축률 한도를 검사하는 스트림을 반환합니다. 원본 스트림은 닫지 않습니다. */
+        public InputStream limit(InputStream entryStream, String entryName, long compressedSize) {
+            return new FilterInputStream(entryStream) {
+                private long read;
+
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b != -1) {
+                        count(1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        count(n);
+                    }
+                    return n;
+                }
+
+                @Override
+                public void close() {}
+
+                private void count(int n) throws ZipException {
+                    read += n;
+                    addBytes(n);
+                    checkRatio(entryName, read, compressedSize);
+                }
+            };
+        }
+    }
+}
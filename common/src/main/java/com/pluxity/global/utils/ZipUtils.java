@@ -6,12 +6,27 @@ import com.pluxity.global.exception.CustomException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +35,20 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class ZipUtils {
 
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    /** 압축 해제는 CPU 작업이므로 코어 수만큼의 공용 데몬 스레드에서 수행합니다. */
+    private static final ExecutorService EXTRACT_EXECUTOR =
+            Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    Thread.ofPlatform().name("zip-extract-", 0).daemon(true).factory());
+
+    private static final ThreadLocal<ByteBuffer> WRITE_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+    private static final ThreadLocal<byte[]> READ_CHUNK =
+            ThreadLocal.withInitial(() -> new byte[READ_CHUNK_SIZE]);
+
     public static void zip(MultipartFile file, Path bp) {
         try (FileOutputStream fos = new FileOutputStream(bp.toFile());
                 ZipOutputStream zos = new ZipOutputStream(fos)) {
@@ -57,4 +86,157 @@ public class ZipUtils {
             }
         }
     }
+
+    /**
+     * 압축 파일의 central directory 를 한 번 읽어 엔트리를 여러 코어에서 병렬로 해제합니다. 해제 전에 선언된 크기로, 해제 중에는 실제 크기로 {@link
+     * ZipLimits} 한도를 검사하며, 각 작업 스레드는 재사용되는 direct buffer 로 큰 단위씩 기록합니다. 정규화한 경로가 겹치는 엔트리가 있으면
+     * 작업 스레드끼리 같은 파일에 쓰게 되므로 아무것도 해제하지 않고 거부합니다.
+     */
+    public static void unzipParallel(Path zipFilePath, Path targetDirectory, ZipLimits limits)
+            throws IOException {
+
+        Path destDirPath = targetDirectory.toAbsolutePath().normalize();
+        ZipLimits.Tracker tracker = limits.tracker();
+
+        try (ZipFile zipFile = new ZipFile(zipFilePath.toFile(), StandardCharsets.UTF_8)) {
+            List<ZipEntry> fileEntries = new ArrayList<>();
+            Set<Path> filePaths = new HashSet<>();
+            Set<Path> directoryPaths = new HashSet<>();
+            directoryPaths.add(destDirPath);
+            long declaredTotalSize = 0;
+            for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+                tracker.addEntry(zipEntry.getName());
+                Path targetFilePath = resolveEntry(destDirPath, zipEntry.getName());
+                if (zipEntry.isDirectory()) {
+                    directoryPaths.add(targetFilePath);
+                    continue;
+                }
+                if (!filePaths.add(targetFilePath)) {
+                    throw new ZipException("같은 경로로 해제되는 ZIP 엔트리가 중복되었습니다: " + zipEntry.getName());
+                }
+                for (Path parent = targetFilePath.getParent();
+                        parent.startsWith(destDirPath) && !parent.equals(destDirPath);
+                        parent = parent.getParent()) {
+                    directoryPaths.add(parent);
+                }
+                if (zipEntry.getSize() > 0) {
+                    declaredTotalSize += zipEntry.getSize();
+                    tracker.checkRatio(zipEntry.getName(), zipEntry.getSize(), zipEntry.getCompressedSize());
+                }
+                fileEntries.add(zipEntry);
+            }
+            if (declaredTotalSize > limits.maxTotalSize()) {
+                throw new ZipException("ZIP 해제 크기가 한도(" + limits.maxTotalSize() + " bytes)를 초과했습니다");
+            }
+            for (Path filePath : filePaths) {
+                if (directoryPaths.contains(filePath)) {
+                    throw new ZipException(
+                            "파일과 디렉토리로 함께 쓰이는 ZIP 엔트리 경로가 있습니다: " + destDirPath.relativize(filePath));
+                }
+            }
+            for (Path directoryPath : directoryPaths) {
+                Files.createDirectories(directoryPath);
+            }
+
+            List<Future<?>> futures = new ArrayList<>(fileEntries.size());
+            for (ZipEntry zipEntry : fileEntries) {
+                futures.add(
+                        EXTRACT_EXECUTOR.submit(
+                                () -> {
+                                    extractEntry(zipFile, zipEntry, destDirPath, tracker);
+                                    return null;
+                                }));
+            }
+            awaitAll(futures);
+        }
+    }
+
+    private static void extractEntry(
+            ZipFile zipFile, ZipEntry zipEntry, Path destDirPath, ZipLimits.Tracker tracker)
+            throws IOException {
+        Path targetFilePath = resolveEntry(destDirPath, zipEntry.getName());
+        Files.createDirectories(targetFilePath.getParent());
+
+        ByteBuffer buffer = WRITE_BUFFER.get().clear();
+        byte[] chunk = READ_CHUNK.get();
+
+        // tracker.limit 은 원본 스트림을 닫지 않으므로 엔트리 스트림은 따로 닫는다.
+        try (InputStream entryStream = zipFile.getInputStream(zipEntry);
+                InputStream is =
+                        tracker.limit(entryStream, zipEntry.getName(), zipEntry.getCompressedSize());
+                FileChannel channel =
+                        FileChannel.open(
+                                targetFilePath,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            int bytesRead;
+            while ((bytesRead = is.read(chunk)) != -1) {
+                if (buffer.remaining() < bytesRead) {
+                    writeFully(channel, buffer);
+                }
+                buffer.put(chunk, 0, bytesRead);
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws IOException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("ZIP 엔트리 해제 실패", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("ZIP 해제가 중단되었습니다");
+        }
+    }
+
+    private static Path resolveEntry(Path destDirPath, String entryName) throws IOException {
+        Path targetFilePath = destDirPath.resolve(entryName).normalize();
+        if (!targetFilePath.startsWith(destDirPath)) {
+            throw new IOException("ZIP 엔트리가 대상 폴더 외부에 위치합니다: " + entryName);
+        }
+        return targetFilePath;
+    }
+
+    /**
+     * 엔트리 이름을 저장소 키에 쓸 수 있는 상대 경로로 정규화합니다. 절대 경로이거나 상위 디렉토리({@code ..})를 가리키는 엔트리는 거부합니다.
+     */
+    public static String normalizeEntryName(String entryName) throws IOException {
+        String name = entryName.replace('\\', '/');
+        if (name.startsWith("/")) {
+            throw new IOException("ZIP 엔트리가 대상 폴더 외부에 위치합니다: " + entryName);
+        }
+
+        StringBuilder normalized = new StringBuilder();
+        for (String segment : name.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                throw new IOException("ZIP 엔트리가 대상 폴더 외부에 위치합니다: " + entryName);
+            }
+            if (!normalized.isEmpty()) {
+                normalized.append('/');
+            }
+            normalized.append(segment);
+        }
+        return normalized.toString();
+    }
 }
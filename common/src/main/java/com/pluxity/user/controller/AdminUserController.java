@@ -3,6 +3,7 @@ package com.pluxity.user.controller;
 import com.pluxity.global.annotation.ResponseCreated;
 import com.pluxity.global.response.DataResponseBody;
 import com.pluxity.global.response.ErrorResponseBody;
+import com.pluxity.global.response.PageResponse;
 import com.pluxity.user.dto.*;
 import com.pluxity.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -96,7 +99,9 @@ public class AdminUserController {
         return ResponseEntity.ok(DataResponseBody.of(service.findById(id)));
     }
 
-    @Operation(summary = "로그인된 사용자 정보 조회", description = "현재 로그인된 사용자의 정보를 조회합니다.")
+    @Operation(
+            summary = "로그인 여부 포함 사용자 목록 조회",
+            description = "검색어와 로그인 여부로 필터링한 사용자 목록을 로그인 여부와 함께 페이지 단위로 조회합니다.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -129,8 +134,15 @@ public class AdminUserController {
                                         schema = @Schema(implementation = ErrorResponseBody.class)))
             })
     @GetMapping("/with-is-logged-in")
-    public ResponseEntity<DataResponseBody<List<UserLoggedInResponse>>> getLoggedInUser() {
-        return ResponseEntity.ok(DataResponseBody.of(service.isLoggedIn())); // 실제 서비스 호출
+    public ResponseEntity<DataResponseBody<PageResponse<UserLoggedInResponse>>> getLoggedInUser(
+            @Parameter(description = "아이디 또는 이름 검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "로그인 여부 필터") @RequestParam(required = false) Boolean loggedIn,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") @Min(0)
+                    int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(1000)
+                    int size) {
+        return ResponseEntity.ok(
+                DataResponseBody.of(service.isLoggedIn(keyword, loggedIn, page, size)));
     }
 
     @Operation(summary = "사용자 생성", description = "새로운 사용자를 생성합니다")
@@ -10,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -45,6 +46,11 @@ public class User extends BaseEntity {
             orphanRemoval = true)
     private final Set<UserRole> userRoles = new LinkedHashSet<>();
 
+    /** 권한이나 비밀번호가 바뀔 때마다 증가하는 보안 버전. 권한을 내장한 액세스 토큰은 이 값이 다르면 거부됩니다. */
+    @ColumnDefault("0")
+    @Column(name = "security_version", nullable = false)
+    private long securityVersion;
+
     @Builder
     public User(
             String username,
@@ -67,6 +73,7 @@ public class User extends BaseEntity {
 
     public void changePassword(String password) {
         this.password = Objects.requireNonNull(password, "Password must not be null");
+        this.securityVersion++;
     }
 
     public void addRoles(List<Role> roles) {
@@ -93,6 +100,7 @@ public class User extends BaseEntity {
 
         UserRole userRole = new UserRole(this, role);
         this.userRoles.add(userRole);
+        this.securityVersion++;
     }
 
     public void removeRole(Role role) {
@@ -106,6 +114,7 @@ public class User extends BaseEntity {
                                 () -> new IllegalStateException("Role not found for this user: " + role.getName()));
 
         this.userRoles.remove(userRoleToRemove);
+        this.securityVersion++;
     }
 
     public void updateRoles(List<Role> newRoles) {
@@ -118,6 +127,7 @@ public class User extends BaseEntity {
 
     public void clearRoles() {
         this.userRoles.clear();
+        this.securityVersion++;
     }
 
     public List<Role> getRoles() {
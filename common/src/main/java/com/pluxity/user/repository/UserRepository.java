@@ -1,10 +1,16 @@
 package com.pluxity.user.repository;
 
 import com.pluxity.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -32,4 +38,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(@NonNull String username);
 
     boolean existsByUsername(@NonNull String username);
+
+    @Query(
+            "SELECT u.username FROM User u "
+                    + "WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                    + "OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                    + "ORDER BY u.id")
+    List<String> findUsernamesByKeyword(@Param("keyword") String keyword);
+
+    @Query(
+            value =
+                    "SELECT u.username FROM User u "
+                            + "WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "ORDER BY u.id",
+            countQuery =
+                    "SELECT COUNT(u) FROM User u "
+                            + "WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+                            + "OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<String> findUsernamesByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @EntityGraph(
+            attributePaths = {
+                "userRoles",
+                "userRoles.role",
+            })
+    List<User> findAllByUsernameInOrderByIdAsc(Collection<String> usernames);
+
+    @Query("SELECT u.securityVersion FROM User u WHERE u.username = :username")
+    Optional<Long> findSecurityVersionByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.securityVersion = u.securityVersion + 1 "
+                    + "WHERE u.id IN (SELECT ur.user.id FROM UserRole ur WHERE ur.role.id = :roleId)")
+    int incrementSecurityVersionByRoleId(@Param("roleId") Long roleId);
 }
@@ -1,11 +1,13 @@
 package com.pluxity.user.service;
 
+import com.pluxity.authentication.security.PrincipalCache;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.user.dto.RoleCreateRequest;
 import com.pluxity.user.dto.RoleResponse;
 import com.pluxity.user.dto.RoleUpdateRequest;
 import com.pluxity.user.entity.Role;
 import com.pluxity.user.repository.RoleRepository;
+import com.pluxity.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Transactional(readOnly = true)
     public RoleResponse findById(Long id) {
@@ -51,17 +55,21 @@ public class RoleService {
 
         if (request.name() != null && !request.name().isBlank()) {
             role.changeRoleName(request.name());
+            userRepository.incrementSecurityVersionByRoleId(id);
         }
         if (request.description() != null) {
             role.changeDescription(request.description());
         }
+        principalCache.invalidateAll();
         return RoleResponse.from(role);
     }
 
     @Transactional
     public void delete(Long id) {
         Role role = findRoleById(id);
+        userRepository.incrementSecurityVersionByRoleId(id);
         roleRepository.delete(role);
+        principalCache.invalidateAll();
     }
 
     private Role findRoleById(Long id) {
@@ -1,8 +1,9 @@
 package com.pluxity.user.service;
 
-import com.pluxity.authentication.entity.RefreshToken;
-import com.pluxity.authentication.repository.RefreshTokenRepository;
+import com.pluxity.authentication.repository.RefreshTokenStore;
+import com.pluxity.authentication.security.PrincipalCache;
 import com.pluxity.global.exception.CustomException;
+import com.pluxity.global.response.PageResponse;
 import com.pluxity.user.dto.*;
 import com.pluxity.user.entity.Role;
 import com.pluxity.user.entity.User;
@@ -10,8 +11,10 @@ import com.pluxity.user.repository.RoleRepository;
 import com.pluxity.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,7 +27,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PrincipalCache principalCache;
 
     @Transactional(readOnly = true)
     public UserResponse findById(Long id) {
@@ -78,6 +82,7 @@ public class UserService {
     public void delete(Long id) {
         User user = findUserById(id);
         userRepository.delete(user);
+        principalCache.invalidate(user.getUsername());
     }
 
     @Transactional
@@ -86,6 +91,7 @@ public class UserService {
         List<Role> roles = request.roleIds().stream().map(this::findRoleById).toList();
 
         user.addRoles(roles);
+        principalCache.invalidate(user.getUsername());
         return UserResponse.from(user);
     }
 
@@ -94,6 +100,7 @@ public class UserService {
         User user = findUserById(userId);
         Role role = findRoleById(roleId);
         user.removeRole(role);
+        principalCache.invalidate(user.getUsername());
     }
 
     private User findUserById(Long id) {
@@ -120,6 +127,7 @@ public class UserService {
 
         user.changePassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
     }
 
     @Transactional
@@ -127,6 +135,7 @@ public class UserService {
         User user = findUserById(id);
         List<Role> roles = roleRepository.findAllById(request.roleIds());
         user.updateRoles(roles);
+        principalCache.invalidate(user.getUsername());
         return UserResponse.from(user);
     }
 
@@ -145,25 +154,60 @@ public class UserService {
         }
     }
 
+    /**
+     * 로그인 여부를 포함한 사용자 목록을 페이지 단위로 조회합니다. 필터가 없으면 DB 에서 해당 페이지의 아이디만 조회하고, 로그인 여부는 그 페이지에 대해 Redis
+     * 파이프라인 한 번으로 확인합니다.
+     *
+     * <p>로그인 여부 필터가 있으면 로그인 상태가 Redis 에만 있어 DB 에서 거를 수 없으므로, 검색 결과 전체 아이디의 로그인 여부를 한 번에 확인해 거른 뒤
+     * 페이지를 자릅니다.
+     *
+     * @param keyword 아이디 또는 이름 검색어 (없으면 전체)
+     * @param loggedIn 로그인 여부 필터 (없으면 전체)
+     */
     @Transactional(readOnly = true)
-    public List<UserLoggedInResponse> isLoggedIn() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(
-                        user -> {
-                            Optional<RefreshToken> refreshToken =
-                                    refreshTokenRepository.findById(user.getUsername());
-                            boolean isLoggedIn = refreshToken.isPresent();
-                            return UserLoggedInResponse.from(
-                                    user.getId(),
-                                    user.getUsername(),
-                                    user.getName(),
-                                    user.getCode(),
-                                    user.getPhoneNumber(),
-                                    user.getDepartment(),
-                                    isLoggedIn,
-                                    user.getRoles().stream().map(RoleResponse::from).toList());
-                        })
-                .toList();
+    public PageResponse<UserLoggedInResponse> isLoggedIn(
+            String keyword, Boolean loggedIn, int page, int size) {
+        String trimmedKeyword = keyword == null ? "" : keyword.trim();
+
+        if (loggedIn == null) {
+            Page<String> usernamePage =
+                    userRepository.findUsernamesByKeyword(trimmedKeyword, PageRequest.of(page, size));
+            List<String> pageUsernames = usernamePage.getContent();
+            if (pageUsernames.isEmpty()) {
+                return PageResponse.of(List.of(), page, size, usernamePage.getTotalElements());
+            }
+            Set<String> presence = refreshTokenStore.findLoggedInUsernames(pageUsernames);
+            return toLoggedInPage(pageUsernames, presence, page, size, usernamePage.getTotalElements());
+        }
+
+        List<String> usernames = userRepository.findUsernamesByKeyword(trimmedKeyword);
+        Set<String> loggedInUsernames = refreshTokenStore.findLoggedInUsernames(usernames);
+        List<String> filtered =
+                usernames.stream().filter(u -> loggedInUsernames.contains(u) == loggedIn).toList();
+        List<String> pageUsernames = filtered.stream().skip((long) page * size).limit(size).toList();
+        return toLoggedInPage(pageUsernames, loggedInUsernames, page, size, filtered.size());
+    }
+
+    private PageResponse<UserLoggedInResponse> toLoggedInPage(
+            List<String> pageUsernames, Set<String> presence, int page, int size, long totalElements) {
+        if (pageUsernames.isEmpty()) {
+            return PageResponse.of(List.of(), page, size, totalElements);
+        }
+
+        List<UserLoggedInResponse> content =
+                userRepository.findAllByUsernameInOrderByIdAsc(pageUsernames).stream()
+                        .map(
+                                user ->
+                                        UserLoggedInResponse.from(
+                                                user.getId(),
+                                                user.getUsername(),
+                                                user.getName(),
+                                                user.getCode(),
+                                                user.getPhoneNumber(),
+                                                user.getDepartment(),
+                                                presence.contains(user.getUsername()),
+                                                user.getRoles().stream().map(RoleResponse::from).toList()))
+                        .toList();
+        return PageResponse.of(content, page, size, totalElements);
     }
 }
@@ -0,0 +1,116 @@
+package com.pluxity.authentication.security;
+
+import com.pluxity.global.constant.ErrorCode;
+import com.pluxity.global.exception.CustomException;
+import com.pluxity.user.entity.Role;
+import com.pluxity.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtProviderTest {
+
+    private static final String ACCESS_SECRET = "+iBcUJRWGvl+94+ow4nXV1fzWIq4rph8x7MyRmrtWio=";
+    private static final String REFRESH_SECRET = "gtzRlqF6bIkmOi5i15A9G5xbLdwiAMmZi6JPOeemC1E=";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "ACCESS_TOKEN", "AccessToken");
+        ReflectionTestUtils.setField(jwtProvider, "accessSecretKey", ACCESS_SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "accessExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshSecretKey", REFRESH_SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "refreshExpiration", 604800L);
+        jwtProvider.init();
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰을 검증하면 Claims 가 반환되고, 재검증 시 같은 Claims 가 캐시에서 반환된다")
+    void validateAccessToken_ReturnsCachedClaims() {
+        // given
+        String token = jwtProvider.generateAccessToken("testUser");
+
+        // when
+        Claims first = jwtProvider.validateAccessToken(token);
+        Claims second = jwtProvider.validateAccessToken(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("testUser");
+        assertThat(second).isSameAs(first);
+        assertThat(jwtProvider.extractUsername(token)).isEqualTo("testUser");
+    }
+
+    @Test
+    @DisplayName("Base64 로 디코딩한 설정 비밀키로 서명된 기존 토큰을 그대로 검증한다")
+    void validate_TokensSignedWithDecodedSecret() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        String accessToken = Jwts.builder()
+                .subject("testUser")
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_SECRET)))
+                .compact();
+        String refreshToken = Jwts.builder()
+                .subject("testUser")
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(REFRESH_SECRET)))
+                .compact();
+
+        // when
+        Claims accessClaims = jwtProvider.validateAccessToken(accessToken);
+        Claims refreshClaims = jwtProvider.parseRefreshToken(refreshToken);
+
+        // then
+        assertThat(accessClaims.getSubject()).isEqualTo("testUser");
+        assertThat(refreshClaims.getSubject()).isEqualTo("testUser");
+    }
+
+    @Test
+    @DisplayName("리프레시 키로 서명된 토큰은 액세스 토큰 검증에 실패한다")
+    void validateAccessToken_WithRefreshToken_ThrowsCustomException() {
+        // given
+        String refreshToken = jwtProvider.generateRefreshToken("testUser");
+
+        // when
+        CustomException exception =
+                assertThrows(CustomException.class, () -> jwtProvider.validateAccessToken(refreshToken));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("권한 내장 모드에서 발급한 액세스 토큰에는 권한 목록과 보안 버전이 담긴다")
+    void generateAccessToken_WithEmbeddedAuthorities_ContainsRolesAndSecurityVersion() {
+        // given
+        ReflectionTestUtils.setField(jwtProvider, "embedAuthorities", true);
+        User user = User.builder()
+                .username("testUser")
+                .password("encodedPassword")
+                .name("테스트유저")
+                .build();
+        user.addRole(Role.builder().name("ADMIN").build());
+
+        // when
+        Claims claims = jwtProvider.validateAccessToken(jwtProvider.generateAccessToken(user));
+
+        // then
+        assertThat(claims.getSubject()).isEqualTo("testUser");
+        assertThat(claims.get(JwtProvider.AUTHORITIES_CLAIM, List.class)).containsExactly("ROLE_ADMIN");
+        assertThat(claims.get(JwtProvider.SECURITY_VERSION_CLAIM, Number.class).longValue())
+                .isEqualTo(user.getSecurityVersion());
+    }
+}
@@ -0,0 +1,145 @@
+package com.pluxity.authentication.security;
+
+import com.pluxity.global.constant.ErrorCode;
+import com.pluxity.global.exception.CustomException;
+import com.pluxity.user.entity.Role;
+import com.pluxity.user.entity.User;
+import com.pluxity.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private static final String USERNAME = "testuser";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+        user = User.builder()
+                .username(USERNAME)
+                .password("encodedPassword")
+                .name("테스트유저")
+                .code("CODE123")
+                .build();
+    }
+
+    @Test
+    @DisplayName("보안 버전이 같으면 토큰의 권한으로 인증 주체를 만든다")
+    void resolve_CurrentVersion_UsesEmbeddedAuthorities() {
+        // given
+        givenCurrentVersion();
+
+        // when
+        AuthenticatedPrincipal principal = principalCache.resolve(claimsOf(user));
+
+        // then
+        assertEquals(USERNAME, principal.username());
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verify(userRepository, never()).findByUsername(USERNAME);
+    }
+
+    @Test
+    @DisplayName("비밀번호를 바꾸면 이전 액세스 토큰은 만료된 토큰으로 거부된다")
+    void resolve_AfterPasswordChange_RejectsOldToken() {
+        // given
+        givenCurrentVersion();
+        Claims oldClaims = claimsOf(user);
+        principalCache.resolve(oldClaims);
+
+        // when
+        user.changePassword("newEncodedPassword");
+        principalCache.invalidate(USERNAME);
+
+        // then
+        CustomException exception = assertThrows(CustomException.class, () -> principalCache.resolve(oldClaims));
+        assertEquals(ErrorCode.EXPIRED_ACCESS_TOKEN, exception.getErrorCode());
+        assertEquals(USERNAME, principalCache.resolve(claimsOf(user)).username());
+    }
+
+    @Test
+    @DisplayName("사용자 권한이 바뀌면 이전 액세스 토큰은 만료된 토큰으로 거부된다")
+    void resolve_AfterRoleChange_RejectsOldToken() {
+        // given
+        givenCurrentVersion();
+        Claims oldClaims = claimsOf(user);
+        principalCache.resolve(oldClaims);
+
+        // when
+        user.addRole(Role.builder().name("VIEWER").build());
+        principalCache.invalidate(USERNAME);
+
+        // then
+        CustomException exception = assertThrows(CustomException.class, () -> principalCache.resolve(oldClaims));
+        assertEquals(ErrorCode.EXPIRED_ACCESS_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("역할 이름이 바뀌어 보안 버전이 일괄 증가하면 이전 액세스 토큰은 거부된다")
+    void resolve_AfterRoleUpdate_RejectsOldToken() {
+        // given
+        given(userRepository.findSecurityVersionByUsername(USERNAME)).willReturn(Optional.of(0L), Optional.of(1L));
+        Claims oldClaims = claimsOf(user);
+        principalCache.resolve(oldClaims);
+
+        // when (RoleService.update 는 incrementSecurityVersionByRoleId 후 전체 무효화한다)
+        principalCache.invalidateAll();
+
+        // then
+        CustomException exception = assertThrows(CustomException.class, () -> principalCache.resolve(oldClaims));
+        assertEquals(ErrorCode.EXPIRED_ACCESS_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("무효화 전에는 캐시된 보안 버전을 사용해 사용자 조회를 반복하지 않는다")
+    void resolve_CachesSecurityVersion() {
+        // given
+        givenCurrentVersion();
+        Claims claims = claimsOf(user);
+
+        // when
+        principalCache.resolve(claims);
+        principalCache.resolve(claims);
+
+        // then
+        verify(userRepository).findSecurityVersionByUsername(USERNAME);
+    }
+
+    private void givenCurrentVersion() {
+        given(userRepository.findSecurityVersionByUsername(USERNAME))
+                .willAnswer(invocation -> Optional.of(user.getSecurityVersion()));
+    }
+
+    private Claims claimsOf(User user) {
+        return Jwts.claims()
+                .subject(user.getUsername())
+                .add(JwtProvider.AUTHORITIES_CLAIM, List.of("ROLE_ADMIN"))
+                .add(JwtProvider.SECURITY_VERSION_CLAIM, user.getSecurityVersion())
+                .build();
+    }
+}
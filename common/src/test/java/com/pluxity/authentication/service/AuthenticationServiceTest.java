@@ -2,12 +2,13 @@ package com.pluxity.authentication.service;
 
 import com.pluxity.authentication.dto.SignInRequest;
 import com.pluxity.authentication.dto.SignUpRequest;
-import com.pluxity.authentication.entity.RefreshToken;
-import com.pluxity.authentication.repository.RefreshTokenRepository;
+import com.pluxity.authentication.repository.RefreshTokenStore;
 import com.pluxity.authentication.security.JwtProvider;
 import com.pluxity.global.exception.CustomException;
 import com.pluxity.user.entity.User;
 import com.pluxity.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -40,7 +41,7 @@ import static org.mockito.Mockito.*;
 class AuthenticationServiceTest {
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private UserRepository userRepository;
@@ -138,7 +139,7 @@ class AuthenticationServiceTest {
                 .build();
 
         given(userRepository.findByUsername(signInRequest.username())).willReturn(Optional.of(user));
-        given(jwtProvider.generateAccessToken(user.getUsername())).willReturn("access-token-value");
+        given(jwtProvider.generateAccessToken(user)).willReturn("access-token-value");
         given(jwtProvider.generateRefreshToken(user.getUsername())).willReturn("refresh-token-value");
         doNothing().when(response).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
         given(request.getContextPath()).willReturn("");
@@ -149,10 +150,10 @@ class AuthenticationServiceTest {
         // then
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository).findByUsername(signInRequest.username());
-        verify(jwtProvider).generateAccessToken(user.getUsername());
+        verify(jwtProvider).generateAccessToken(user);
         verify(jwtProvider).generateRefreshToken(user.getUsername());
         verify(response, times(3)).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenStore).save(user.getUsername(), "refresh-token-value", REFRESH_EXPIRATION);
     }
 
     @Test
@@ -178,10 +179,8 @@ class AuthenticationServiceTest {
     void signOut_Success() {
         // given
         String refreshToken = "refresh-token-value";
-        RefreshToken token = RefreshToken.of("testuser", refreshToken, REFRESH_EXPIRATION);
 
         given(jwtProvider.getJwtFromRequest(REFRESH_TOKEN_NAME, request)).willReturn(refreshToken);
-        given(refreshTokenRepository.findByToken(refreshToken)).willReturn(Optional.of(token));
         given(request.getContextPath()).willReturn("");
 
         // WebUtils.getCookie 모킹
@@ -199,8 +198,7 @@ class AuthenticationServiceTest {
 
         // then
         verify(jwtProvider).getJwtFromRequest(REFRESH_TOKEN_NAME, request);
-        verify(refreshTokenRepository).findByToken(refreshToken);
-        verify(refreshTokenRepository).delete(token);
+        verify(refreshTokenStore).delete(refreshToken);
         verify(response, times(3)).addCookie(any(Cookie.class));
     }
 
@@ -217,12 +215,15 @@ class AuthenticationServiceTest {
                 .code("CODE123")
                 .build();
 
+        Claims claims = Jwts.claims().subject(username).build();
+
         given(jwtProvider.getJwtFromRequest(REFRESH_TOKEN_NAME, request)).willReturn(refreshToken);
-        given(jwtProvider.isRefreshTokenValid(refreshToken)).willReturn(true);
-        given(jwtProvider.extractUsername(refreshToken, true)).willReturn(username);
+        given(jwtProvider.parseRefreshToken(refreshToken)).willReturn(claims);
         given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
-        given(jwtProvider.generateAccessToken(username)).willReturn("new-access-token");
+        given(jwtProvider.generateAccessToken(user)).willReturn("new-access-token");
         given(jwtProvider.generateRefreshToken(username)).willReturn("new-refresh-token");
+        given(refreshTokenStore.rotate(refreshToken, "new-refresh-token", REFRESH_EXPIRATION))
+                .willReturn(Optional.of(username));
         given(request.getContextPath()).willReturn("");
         doNothing().when(response).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
 
@@ -231,13 +232,39 @@ class AuthenticationServiceTest {
 
         // then
         verify(jwtProvider).getJwtFromRequest(REFRESH_TOKEN_NAME, request);
-        verify(jwtProvider).isRefreshTokenValid(refreshToken);
-        verify(jwtProvider).extractUsername(refreshToken, true);
+        verify(jwtProvider).parseRefreshToken(refreshToken);
         verify(userRepository).findByUsername(username);
-        verify(jwtProvider).generateAccessToken(username);
+        verify(jwtProvider).generateAccessToken(user);
         verify(jwtProvider).generateRefreshToken(username);
+        verify(refreshTokenStore).rotate(refreshToken, "new-refresh-token", REFRESH_EXPIRATION);
         verify(response, times(3)).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("RefreshToken 재발행 실패 - 이미 사용된 RefreshToken")
+    void refreshToken_Fail_AlreadyRotated() {
+        // given
+        String username = "testuser";
+        String refreshToken = "refresh-token-value";
+        User user = User.builder()
+                .username(username)
+                .password("encodedPassword")
+                .name("테스트유저")
+                .code("CODE123")
+                .build();
+
+        given(jwtProvider.getJwtFromRequest(REFRESH_TOKEN_NAME, request)).willReturn(refreshToken);
+        given(jwtProvider.parseRefreshToken(refreshToken)).willReturn(Jwts.claims().subject(username).build());
+        given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+        given(jwtProvider.generateRefreshToken(username)).willReturn("new-refresh-token");
+        given(refreshTokenStore.rotate(refreshToken, "new-refresh-token", REFRESH_EXPIRATION))
+                .willReturn(Optional.empty());
+
+        // when and then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> authenticationService.refreshToken(request, response));
+        assertEquals(INVALID_REFRESH_TOKEN, exception.getErrorCode());
+        verify(response, never()).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
     }
 
     @Test
@@ -251,7 +278,7 @@ class AuthenticationServiceTest {
                 () -> authenticationService.refreshToken(request, response));
         assertEquals(INVALID_REFRESH_TOKEN, exception.getErrorCode());
         verify(jwtProvider).getJwtFromRequest(REFRESH_TOKEN_NAME, request);
-        verify(jwtProvider, never()).isRefreshTokenValid(anyString());
+        verify(jwtProvider, never()).parseRefreshToken(anyString());
         verify(userRepository, never()).findByUsername(anyString());
     }
 }
\ No newline at end of file
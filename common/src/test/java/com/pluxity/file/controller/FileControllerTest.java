@@ -0,0 +1,147 @@
+package com.pluxity.file.controller;
+
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileBlobRepository;
+import com.pluxity.file.repository.FileRepository;
+import com.pluxity.file.service.FileFinalizeWorker;
+import com.pluxity.file.service.FileProgressNotifier;
+import com.pluxity.file.service.FileService;
+import com.pluxity.file.service.SbmFileService;
+import com.pluxity.file.strategy.storage.StorageStrategy;
+import com.pluxity.global.config.S3Config;
+import com.pluxity.global.exception.CustomExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class FileControllerTest {
+
+    private static final int MAX_UPLOAD_BYTES = 1024;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private S3Config s3Config;
+
+    @Mock
+    private StorageStrategy storageStrategy;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private SbmFileService sbmFileService;
+
+    @Mock
+    private FileFinalizeWorker finalizeWorker;
+
+    @Mock
+    private FileProgressNotifier progressNotifier;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        FileService fileService = new FileService(
+                s3Presigner, s3Config, storageStrategy, fileRepository, fileBlobRepository,
+                sbmFileService, finalizeWorker, progressNotifier);
+        ReflectionTestUtils.setField(fileService, "maxUploadSize", DataSize.ofBytes(MAX_UPLOAD_BYTES));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new FileController(fileService))
+                .setControllerAdvice(new CustomExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Content-Length 가 없으면 본문을 읽지 않고 411 을 반환한다")
+    void uploadFileStream_Fail_LengthRequired() throws Exception {
+        // when & then
+        mockMvc.perform(post("/files/upload/stream")
+                        .header("X-File-Name", "model.glb")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(status().isLengthRequired());
+        verify(storageStrategy, never()).save(any(InputStream.class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Content-Length 가 최대 업로드 크기를 넘으면 본문을 읽지 않고 413 을 반환한다")
+    void uploadFileStream_Fail_PayloadTooLarge() throws Exception {
+        // when & then
+        mockMvc.perform(post("/files/upload/stream")
+                        .header("X-File-Name", "model.glb")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[MAX_UPLOAD_BYTES + 1]))
+                .andExpect(status().isPayloadTooLarge());
+        verify(storageStrategy, never()).save(any(InputStream.class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("최대 업로드 크기 이내이면 선언된 길이 그대로 스토리지에 스트리밍한다")
+    void uploadFileStream_WithinLimit_StreamsToStorage() throws Exception {
+        // given
+        given(storageStrategy.save(any(InputStream.class), eq((long) MAX_UPLOAD_BYTES), any()))
+                .willReturn("temp/model.glb");
+        given(fileRepository.save(any(FileEntity.class)))
+                .willAnswer(invocation -> {
+                    FileEntity saved = invocation.getArgument(0);
+                    ReflectionTestUtils.setField(saved, "id", 1L);
+                    return saved;
+                });
+
+        // when & then
+        mockMvc.perform(post("/files/upload/stream")
+                        .header("X-File-Name", "%EB%8F%84%EB%A9%B4.glb")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[MAX_UPLOAD_BYTES]))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(content().string("1"));
+        verify(fileRepository).save(argThat(
+                (FileEntity file) -> "도면.glb".equals(file.getOriginalFileName())));
+    }
+
+    @Test
+    @DisplayName("스토리지에 쓴 뒤 파일 정보 저장에 실패하면 써 둔 임시 파일을 지운다")
+    void uploadFileStream_SaveFails_DeletesWrittenObject() throws Exception {
+        // given
+        given(storageStrategy.save(any(InputStream.class), eq((long) MAX_UPLOAD_BYTES), any()))
+                .willReturn("temp/model.glb");
+        given(fileRepository.save(any(FileEntity.class)))
+                .willThrow(new DataAccessResourceFailureException("커넥션 없음"));
+
+        // when & then
+        mockMvc.perform(post("/files/upload/stream")
+                        .header("X-File-Name", "model.glb")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[MAX_UPLOAD_BYTES]))
+                .andExpect(status().isInternalServerError());
+        verify(storageStrategy).delete("temp/model.glb");
+    }
+}
@@ -0,0 +1,212 @@
+package com.pluxity.file.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalFileRequestHandlerTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalFileRequestHandler handler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(uploadDir.resolve("drawings/1"));
+        Files.writeString(uploadDir.resolve("drawings/1/model.glb"), CONTENT);
+        handler = new LocalFileRequestHandler(uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("파일을 immutable 캐시 헤더와 강한 ETag 로 제공한다")
+    void handleRequest_ServesWithImmutableCache() throws Exception {
+        // given
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 304 를 반환한다")
+    void handleRequest_NotModified() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        handler.handleRequest(request("drawings/1/model.glb"), first);
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Range 요청에는 해당 구간만 206 으로 반환한다")
+    void handleRequest_Range() throws Exception {
+        // given
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 전체 파일을 반환한다")
+    void handleRequest_IfRangeMismatch() throws Exception {
+        // given
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range 요청에는 416 을 반환한다")
+    void handleRequest_RangeNotSatisfiable() throws Exception {
+        // given
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("미리 압축된 파일이 있고 클라이언트가 허용하면 압축 파일을 보낸다")
+    void handleRequest_PrecompressedSidecar() throws Exception {
+        // given
+        Files.writeString(uploadDir.resolve("drawings/1/model.glb.br"), "brotli", StandardCharsets.UTF_8);
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(response.getContentAsString()).isEqualTo("brotli");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("q=0 으로 거부된 압축 방식은 쓰지 않고 허용된 다른 압축 파일을 보낸다")
+    void handleRequest_PrecompressedSidecar_RespectsZeroQuality() throws Exception {
+        // given
+        Files.writeString(uploadDir.resolve("drawings/1/model.glb.br"), "brotli", StandardCharsets.UTF_8);
+        Files.writeString(uploadDir.resolve("drawings/1/model.glb.gz"), "gzip", StandardCharsets.UTF_8);
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip;q=0.5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getContentAsString()).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("모든 압축 방식이 q=0 이면 원본 파일을 보낸다")
+    void handleRequest_AllEncodingsRejected_ServesOriginal() throws Exception {
+        // given
+        Files.writeString(uploadDir.resolve("drawings/1/model.glb.br"), "brotli", StandardCharsets.UTF_8);
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=0, *;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Tomcat 이 sendfile 을 지원하면 본문 전송을 맡긴다")
+    void handleRequest_Sendfile() throws Exception {
+        // given
+        MockHttpServletRequest request = request("drawings/1/model.glb");
+        request.setAttribute(LocalFileRequestHandler.SENDFILE_SUPPORT_ATTR, Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(LocalFileRequestHandler.SENDFILE_START_ATTR)).isEqualTo(0L);
+        assertThat(request.getAttribute(LocalFileRequestHandler.SENDFILE_END_ATTR)).isEqualTo(20L);
+        assertThat(response.getContentLengthLong()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("업로드 경로 밖을 가리키는 요청은 404 를 반환한다")
+    void handleRequest_PathTraversal() throws Exception {
+        // given
+        MockHttpServletRequest request = request("../secret.txt");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/" + path);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, path);
+        return request;
+    }
+}
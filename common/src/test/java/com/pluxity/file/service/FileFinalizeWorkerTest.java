@@ -0,0 +1,201 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.constant.FileStatus;
+import com.pluxity.file.dto.FileProgressResponse;
+import com.pluxity.file.entity.FileBlob;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileBlobRepository;
+import com.pluxity.file.repository.FileRepository;
+import com.pluxity.file.strategy.storage.FilePersistenceContext;
+import com.pluxity.file.strategy.storage.StorageStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FileFinalizeWorkerTest {
+
+    @Mock
+    private StorageStrategy storageStrategy;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private FileProgressNotifier progressNotifier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileFinalizeWorker worker;
+
+    private FileEntity file;
+
+    private final FilePersistenceContext context = FilePersistenceContext.builder()
+            .filePath("temp/test.zip")
+            .newPath("drawings/")
+            .contentType("application/zip")
+            .originalFileName("test.zip")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        worker = new FileFinalizeWorker(
+                storageStrategy, fileRepository, fileBlobRepository, progressNotifier, transactionManager, new SyncTaskExecutor());
+        file = FileEntity.builder()
+                .filePath("temp/test.zip")
+                .originalFileName("test.zip")
+                .contentType("application/zip")
+                .build();
+        file.markProcessing();
+    }
+
+    @Test
+    @DisplayName("영구 저장이 끝나면 파일이 COMPLETE 상태가 되고 완료 이벤트가 전송된다")
+    void submit_Success() throws Exception {
+        // given
+        given(storageStrategy.persist(any())).willReturn("drawings/test/");
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+
+        // when
+        worker.submitAfterCommit(1L, context);
+
+        // then
+        assertEquals(FileStatus.COMPLETE, file.getFileStatus());
+        assertEquals("drawings/test/", file.getFilePath());
+        verify(progressNotifier).complete(new FileProgressResponse(1L, "COMPLETE", 1, 1));
+    }
+
+    @Test
+    @DisplayName("내용 해시가 있는 파일은 저장된 경로를 공유 저장소 객체로 등록하고 참조한다")
+    void submit_RegistersBlob() throws Exception {
+        // given
+        String hash = "ab".repeat(32);
+        FileEntity hashedFile = FileEntity.builder()
+                .filePath("temp/hashed.png")
+                .originalFileName("hashed.png")
+                .contentType("image/png")
+                .contentHash(hash)
+                .build();
+        String directory = FileBlob.directoryOf(hash, "gen-1");
+        String blobPath = directory + hash + ".png";
+        given(storageStrategy.persist(any())).willReturn(blobPath);
+        given(fileRepository.findById(1L)).willReturn(Optional.of(hashedFile));
+        given(fileBlobRepository.findByContentHash(hash)).willReturn(Optional.empty());
+        given(fileBlobRepository.saveAndFlush(any(FileBlob.class))).willAnswer(invocation -> {
+            FileBlob blob = invocation.getArgument(0);
+            ReflectionTestUtils.setField(blob, "id", 10L);
+            return blob;
+        });
+        given(fileBlobRepository.incrementReferenceCount(10L)).willReturn(1);
+
+        // when
+        worker.submitAfterCommit(1L, hashedContext(directory));
+
+        // then
+        assertEquals(FileStatus.COMPLETE, hashedFile.getFileStatus());
+        assertEquals(blobPath, hashedFile.getStoragePath());
+        assertEquals(directory, hashedFile.getBlob().getStorageDirectory());
+        verify(fileBlobRepository).incrementReferenceCount(10L);
+        verify(storageStrategy, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("같은 내용을 동시에 등록해 충돌하면 먼저 등록된 저장소 객체를 참조하고 이번 세대 디렉토리는 지운다")
+    void submit_ConcurrentBlobInsert_LinksExistingBlob() throws Exception {
+        // given
+        String hash = "cd".repeat(32);
+        FileEntity hashedFile = FileEntity.builder()
+                .filePath("temp/hashed.png")
+                .originalFileName("hashed.png")
+                .contentType("image/png")
+                .contentHash(hash)
+                .build();
+        String existingDirectory = FileBlob.directoryOf(hash, "gen-1");
+        FileBlob existing = FileBlob.builder()
+                .contentHash(hash)
+                .filePath(existingDirectory + hash + ".png")
+                .directory(existingDirectory)
+                .contentType("image/png")
+                .build();
+        ReflectionTestUtils.setField(existing, "id", 20L);
+        String directory = FileBlob.directoryOf(hash, "gen-2");
+        given(storageStrategy.persist(any())).willReturn(directory + hash + ".png");
+        given(fileRepository.findById(1L)).willReturn(Optional.of(hashedFile));
+        given(fileBlobRepository.findByContentHash(hash)).willReturn(Optional.empty(), Optional.of(existing));
+        given(fileBlobRepository.saveAndFlush(any(FileBlob.class)))
+                .willThrow(new DataIntegrityViolationException("uk_file_blobs_content_hash"));
+        given(fileBlobRepository.incrementReferenceCount(20L)).willReturn(1);
+
+        // when
+        worker.submitAfterCommit(1L, hashedContext(directory));
+
+        // then
+        assertEquals(FileStatus.COMPLETE, hashedFile.getFileStatus());
+        assertEquals(existing, hashedFile.getBlob());
+        verify(progressNotifier).complete(new FileProgressResponse(1L, "COMPLETE", 1, 1));
+        verify(storageStrategy).delete(directory);
+        verify(storageStrategy, never()).delete(existingDirectory);
+    }
+
+    @Test
+    @DisplayName("영구 저장에 실패하면 파일이 FAILED 상태가 되고 실패 이벤트가 전송된다")
+    void submit_Fail() throws Exception {
+        // given
+        given(storageStrategy.persist(any())).willThrow(new IllegalStateException("storage down"));
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+
+        // when
+        worker.submitAfterCommit(1L, context);
+
+        // then
+        assertEquals(FileStatus.FAILED, file.getFileStatus());
+        verify(progressNotifier).complete(argThat(progress -> "FAILED".equals(progress.status())));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청하면 커밋 전에는 영구 저장을 시작하지 않는다")
+    void submit_WaitsForCommit() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            worker.submitAfterCommit(1L, context);
+
+            // then
+            verify(storageStrategy, never()).persist(any());
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private FilePersistenceContext hashedContext(String directory) {
+        return FilePersistenceContext.builder()
+                .filePath("temp/hashed.png")
+                .newPath(directory)
+                .contentType("image/png")
+                .originalFileName("hashed.png")
+                .build();
+    }
+}
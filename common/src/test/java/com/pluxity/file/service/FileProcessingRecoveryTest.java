@@ -0,0 +1,78 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.constant.FileStatus;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FileProcessingRecoveryTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileFinalizeWorker finalizeWorker;
+
+    private FileProcessingRecovery recovery;
+
+    @BeforeEach
+    void setUp() {
+        recovery = new FileProcessingRecovery(fileRepository, finalizeWorker, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("기준 시간보다 오래 PROCESSING 상태로 남은 파일은 FAILED 로 바뀌고 임시 파일이 삭제된다")
+    void failStaleProcessingFiles_MarksFailedAndDeletesTemp() {
+        // given
+        FileEntity file = FileEntity.builder()
+                .filePath("temp/stuck.zip")
+                .originalFileName("stuck.zip")
+                .contentType("application/zip")
+                .build();
+        file.markProcessing();
+        LocalDateTime before = LocalDateTime.now().minusMinutes(30);
+        given(fileRepository.findAllByFileStatusAndUpdatedAtBefore(eq(FileStatus.PROCESSING), any()))
+                .willReturn(List.of(file));
+
+        // when
+        recovery.failStaleProcessingFiles();
+
+        // then
+        assertEquals(FileStatus.FAILED, file.getFileStatus());
+        verify(finalizeWorker).deleteAfterCommit("temp/stuck.zip");
+        verify(fileRepository).findAllByFileStatusAndUpdatedAtBefore(
+                eq(FileStatus.PROCESSING), argThat(threshold -> !threshold.isBefore(before)));
+    }
+
+    @Test
+    @DisplayName("오래된 PROCESSING 파일이 없으면 아무것도 삭제하지 않는다")
+    void failStaleProcessingFiles_NothingStale() {
+        // given
+        given(fileRepository.findAllByFileStatusAndUpdatedAtBefore(eq(FileStatus.PROCESSING), any()))
+                .willReturn(List.of());
+
+        // when
+        recovery.failStaleProcessingFiles();
+
+        // then
+        verify(finalizeWorker, never()).deleteAfterCommit(any());
+    }
+}
@@ -0,0 +1,166 @@
+package com.pluxity.file.service;
+
+import com.pluxity.file.dto.SbmFileUploadResponse;
+import com.pluxity.file.dto.SbmFloorGroup;
+import com.pluxity.file.dto.SbmFloorInfo;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.strategy.storage.FilePersistenceContext;
+import com.pluxity.file.strategy.storage.StorageStrategy;
+import com.pluxity.global.config.S3Config;
+import com.pluxity.global.constant.ErrorCode;
+import com.pluxity.global.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SbmFileServiceTest {
+
+    private static final String MANIFEST = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Building>
+              <Floors>
+                <Floor id="F1" name="1층" baseFloor="1" groupID="G1" isMain="True">
+                  <FileSource name="./F1.glb"/>
+                </Floor>
+                <Floor id="F1M" name="1층 중층" baseFloor="1" groupID="G1" isMain="False">
+                  <FileSource name="./F1M.glb"/>
+                </Floor>
+                <Floor id="F2" name="2층" baseFloor="2" groupID="G2" isMain="True">
+                  <FileSource name="./floors/F2.glb"/>
+                </Floor>
+              </Floors>
+            </Building>
+            """;
+
+    @Mock
+    private StorageStrategy storageStrategy;
+
+    @Mock
+    private S3Config s3Config;
+
+    @Mock
+    private S3Client s3Client;
+
+    @InjectMocks
+    private SbmFileService sbmFileService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Floors 아래의 층을 그룹별로 묶고 메인 층을 찾는다")
+    void parseFloors_GroupsByGroupId() {
+        // when
+        List<SbmFloorGroup> groups = sbmFileService.groupFloors(sbmFileService.parseFloors(xml(MANIFEST)));
+
+        // then
+        assertThat(groups).extracting(SbmFloorGroup::floorId).containsExactly("G1", "G2");
+        assertThat(groups.get(0).floorInfoList()).extracting(SbmFloorInfo::fileName).containsExactly("F1.glb", "F1M.glb");
+        assertThat(groups.get(0).mainFloorInfo().floorId()).isEqualTo("F1");
+    }
+
+    @Test
+    @DisplayName("메인 층이 없는 그룹이 있으면 예외가 발생한다")
+    void groupFloors_Fail_NoMainFloor() {
+        // given
+        List<SbmFloorInfo> floors = sbmFileService.parseFloors(xml(MANIFEST.replace("isMain=\"True\"", "isMain=\"False\"")));
+
+        // when & then
+        assertThatThrownBy(() -> sbmFileService.groupFloors(floors)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("패키지의 층 파일을 스토리지에 저장하고 저장 경로를 채운다")
+    void processSbmFile_PersistsFloorFiles() throws Exception {
+        // given
+        Path packagePath = createPackage();
+        FileEntity fileEntity = mock(FileEntity.class);
+        given(fileEntity.getId()).willReturn(7L);
+        given(fileEntity.getCreatedAt()).willReturn(LocalDateTime.now());
+        given(storageStrategy.save(any(InputStream.class), anyLong(), any())).willReturn("temp/floor");
+        given(storageStrategy.persist(any()))
+                .willAnswer(invocation -> {
+                    FilePersistenceContext context = invocation.getArgument(0);
+                    return context.newPath() + context.targetFileName();
+                });
+
+        // when
+        SbmFileUploadResponse response = sbmFileService.processSbmFile(packagePath, fileEntity);
+
+        // then
+        assertThat(response.floorList()).hasSize(2);
+        assertThat(response.floorList().get(0).mainFloorInfo().filePath()).isEqualTo("sbm/7/F1.glb");
+        assertThat(response.floorList().get(1).floorInfoList())
+                .extracting(SbmFloorInfo::filePath)
+                .containsExactly("sbm/7/floors/F2.glb");
+    }
+
+    @Test
+    @DisplayName("압축률 한도를 넘는 엔트리가 있으면 저장하지 않고 예외가 발생한다")
+    void processSbmFile_Fail_CompressionRatioExceeded() throws Exception {
+        // given
+        Path packagePath = createPackage();
+        try (FileSystem zipFs = FileSystems.newFileSystem(packagePath)) {
+            Files.write(zipFs.getPath("building/F1.glb"), new byte[4 * 1024 * 1024]);
+        }
+        FileEntity fileEntity = mock(FileEntity.class);
+
+        // when & then
+        assertThatThrownBy(() -> sbmFileService.processSbmFile(packagePath, fileEntity))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SBM_FILE);
+        verify(storageStrategy, never()).save(any(InputStream.class), anyLong(), any());
+    }
+
+    private InputStream xml(String content) {
+        return new ByteArrayInputStream(content.strip().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path createPackage() throws IOException {
+        Path packagePath = tempDir.resolve("building.sbm");
+        try (OutputStream outputStream = Files.newOutputStream(packagePath);
+             ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+            writeEntry(zos, "building/building.xml", MANIFEST.strip());
+            writeEntry(zos, "building/F1.glb", "glb-F1");
+            writeEntry(zos, "building/F1M.glb", "glb-F1M");
+            writeEntry(zos, "building/floors/F2.glb", "glb-F2");
+        }
+        return packagePath;
+    }
+
+    private void writeEntry(ZipOutputStream zos, String name, String content) throws IOException {
+        zos.putNextEntry(new ZipEntry(name));
+        zos.write(content.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+}
@@ -0,0 +1,198 @@
+package com.pluxity.file.strategy.storage;
+
+import com.pluxity.global.config.S3Config;
+import com.pluxity.global.constant.ErrorCode;
+import com.pluxity.global.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageStrategyTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String UPLOAD_ID = "upload-1";
+    private static final int PART_SIZE = 8 * 1024 * 1024;
+    private static final int UPLOAD_PARALLELISM = 16;
+    private static final int ENTRY_COUNT = 200;
+    private static final int FAILING_ENTRY = UPLOAD_PARALLELISM - 1;
+
+    @Mock
+    private S3Config s3Config;
+
+    @Mock
+    private S3Client s3Client;
+
+    @InjectMocks
+    private S3StorageStrategy storageStrategy;
+
+    private final FileProcessingContext context = FileProcessingContext.builder()
+            .contentType("model/gltf-binary")
+            .originalFileName("model.glb")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        given(s3Config.getBucketName()).willReturn(BUCKET);
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 중 스트림이 끊기면 업로드를 취소하고 예외를 전달한다")
+    void save_StreamFailsMidUpload_AbortsMultipartUpload() {
+        // given
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willReturn(UploadPartResponse.builder().eTag("etag-1").build());
+        InputStream body = new FailingInputStream(PART_SIZE + 1024);
+
+        // when & then
+        assertThatThrownBy(() -> storageStrategy.save(body, -1, context)).isInstanceOf(IOException.class);
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).abortMultipartUpload(argThat((AbortMultipartUploadRequest request) ->
+                BUCKET.equals(request.bucket()) && UPLOAD_ID.equals(request.uploadId())));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("압축 해제 중 업로드 하나가 실패하면 남은 엔트리는 읽지 않고 이미 올라간 엔트리를 삭제한다")
+    void persist_EntryUploadFails_StopsAndDeletesUploadedEntries() throws Exception {
+        // given
+        given(s3Client.getObject(any(GetObjectRequest.class)))
+                .willReturn(new ResponseInputStream<>(
+                        GetObjectResponse.builder().build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(createZip()))));
+
+        CountDownLatch failed = new CountDownLatch(1);
+        Queue<String> uploadedKeys = new ConcurrentLinkedQueue<>();
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .willAnswer(invocation -> {
+                    String key = invocation.<PutObjectRequest>getArgument(0).key();
+                    if (key.endsWith("entry-" + FAILING_ENTRY + ".bin")) {
+                        failed.countDown();
+                        throw S3Exception.builder().message("업로드 실패").build();
+                    }
+                    // 앞선 엔트리들은 실패가 난 뒤에 끝나도록 해 동시에 진행 중인 업로드를 만든다
+                    failed.await(5, TimeUnit.SECONDS);
+                    uploadedKeys.add(key);
+                    return PutObjectResponse.builder().build();
+                });
+
+        FilePersistenceContext persistenceContext = FilePersistenceContext.builder()
+                .filePath("temp/textures.zip")
+                .newPath("drawings/1/")
+                .contentType("application/zip")
+                .originalFileName("textures.zip")
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> storageStrategy.persist(persistenceContext))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.FAILED_TO_ZIP_FILE);
+
+        verify(s3Client, atMost(UPLOAD_PARALLELISM * 2))
+                .putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        assertThat(uploadedKeys).hasSizeGreaterThanOrEqualTo(FAILING_ENTRY);
+
+        ArgumentCaptor<DeleteObjectsRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, atLeastOnce()).deleteObjects(deleteCaptor.capture());
+        List<String> deletedKeys = deleteCaptor.getAllValues().stream()
+                .flatMap(request -> request.delete().objects().stream())
+                .map(ObjectIdentifier::key)
+                .toList();
+        assertThat(deletedKeys)
+                .containsExactlyInAnyOrderElementsOf(uploadedKeys)
+                .allMatch(key -> key.startsWith("drawings/1/textures/"));
+        // 임시 파일은 다시 시도할 수 있도록 남겨 둔다
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    private byte[] createZip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                zos.putNextEntry(new ZipEntry("textures/entry-" + i + ".bin"));
+                zos.write(("texture-" + i).getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** 지정한 바이트 수만큼 0 을 읽은 뒤 연결이 끊긴 것처럼 IOException 을 던지는 스트림 */
+    private static final class FailingInputStream extends InputStream {
+
+        private long remaining;
+
+        FailingInputStream(long failAfter) {
+            this.remaining = failAfter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("연결이 끊겼습니다");
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("연결이 끊겼습니다");
+            }
+            int n = (int) Math.min(length, remaining);
+            remaining -= n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.pluxity.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 순차 해제({@link ZipUtils#unzip})와 병렬 해제({@link ZipUtils#unzipParallel})의 소요 시간을 비교합니다. 기본 빌드에서는 실행되지
+ * 않으며 {@code ./gradlew :common:test --tests '*ZipUtilsBenchmarkTest' -Dbenchmark=true} 로
+ * 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ZipUtilsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ZipUtilsBenchmarkTest.class);
+
+    private static final int ENTRY_COUNT = 400;
+    private static final int ENTRY_SIZE = 512 * 1024;
+    private static final int ITERATIONS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("텍스처 묶음 압축 해제 - 순차 vs 병렬")
+    void compareSequentialAndParallelUnzip() throws IOException {
+        Path zipFile = createTexturePack();
+
+        // 워밍업
+        runSequential(zipFile);
+        runParallel(zipFile);
+
+        long sequentialNanos = 0;
+        long parallelNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sequentialNanos += runSequential(zipFile);
+            parallelNanos += runParallel(zipFile);
+        }
+
+        log.info(
+                "unzip ({} entries x {} KB, {} cores): sequential {} ms, parallel {} ms",
+                ENTRY_COUNT,
+                ENTRY_SIZE / 1024,
+                Runtime.getRuntime().availableProcessors(),
+                sequentialNanos / ITERATIONS / 1_000_000,
+                parallelNanos / ITERATIONS / 1_000_000);
+    }
+
+    private long runSequential(Path zipFile) throws IOException {
+        Path targetDir = Files.createTempDirectory(tempDir, "sequential");
+        long start = System.nanoTime();
+        try (InputStream is = Files.newInputStream(zipFile)) {
+            ZipUtils.unzip(is, targetDir);
+        }
+        long elapsed = System.nanoTime() - start;
+        FileUtils.deleteDirectoryRecursively(targetDir);
+        return elapsed;
+    }
+
+    private long runParallel(Path zipFile) throws IOException {
+        Path targetDir = Files.createTempDirectory(tempDir, "parallel");
+        long start = System.nanoTime();
+        ZipUtils.unzipParallel(zipFile, targetDir, ZipLimits.DEFAULT);
+        long elapsed = System.nanoTime() - start;
+        FileUtils.deleteDirectoryRecursively(targetDir);
+        return elapsed;
+    }
+
+    /** 반쯤 압축되는 데이터로 실제 텍스처와 비슷한 압축률을 만듭니다. */
+    private Path createTexturePack() throws IOException {
+        Random random = new Random(7);
+        byte[] content = new byte[ENTRY_SIZE];
+        Path zipFile = tempDir.resolve("textures.zip");
+        try (OutputStream os = Files.newOutputStream(zipFile);
+             ZipOutputStream zos = new ZipOutputStream(os)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                for (int j = 0; j < content.length; j++) {
+                    content[j] = (byte) (j % 2 == 0 ? random.nextInt(256) : 0);
+                }
+                zos.putNextEntry(new ZipEntry("textures/texture-" + i + ".bin"));
+                zos.write(content);
+                zos.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+}
@@ -0,0 +1,129 @@
+package com.pluxity.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipUtilsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("병렬 해제 결과는 순차 해제 결과와 같다")
+    void unzipParallel_ProducesSameFilesAsSequentialUnzip() throws IOException {
+        // given
+        Random random = new Random(42);
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            byte[] content = new byte[random.nextInt(200_000) + 1];
+            random.nextBytes(content);
+            entries.put("textures/texture-" + i + ".bin", content);
+        }
+        entries.put("model.gltf", "{\"asset\":{\"version\":\"2.0\"}}".getBytes());
+        Path zipFile = createZip(entries);
+
+        Path sequentialDir = Files.createDirectory(tempDir.resolve("sequential"));
+        Path parallelDir = Files.createDirectory(tempDir.resolve("parallel"));
+
+        // when
+        try (InputStream is = Files.newInputStream(zipFile)) {
+            ZipUtils.unzip(is, sequentialDir);
+        }
+        ZipUtils.unzipParallel(zipFile, parallelDir, ZipLimits.DEFAULT);
+
+        // then
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            assertThat(Files.readAllBytes(parallelDir.resolve(entry.getKey()))).isEqualTo(entry.getValue());
+            assertThat(Files.readAllBytes(parallelDir.resolve(entry.getKey())))
+                    .isEqualTo(Files.readAllBytes(sequentialDir.resolve(entry.getKey())));
+        }
+    }
+
+    @Test
+    @DisplayName("압축률이 한도를 넘는 엔트리가 있으면 해제하지 않는다")
+    void unzipParallel_WithHighCompressionRatio_ThrowsZipException() throws IOException {
+        // given
+        Path zipFile = createZip(Map.of("bomb.bin", new byte[8 * 1024 * 1024]));
+        Path targetDir = Files.createDirectory(tempDir.resolve("bomb"));
+
+        // when & then
+        assertThatThrownBy(() -> ZipUtils.unzipParallel(zipFile, targetDir, ZipLimits.DEFAULT))
+                .isInstanceOf(ZipException.class);
+        assertThat(targetDir.resolve("bomb.bin")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("엔트리 수나 전체 크기가 한도를 넘으면 예외가 발생한다")
+    void unzipParallel_ExceedingEntryOrSizeLimit_ThrowsZipException() throws IOException {
+        // given
+        Path zipFile = createZip(Map.of("a.txt", new byte[100], "b.txt", new byte[100]));
+
+        // when & then
+        assertThatThrownBy(
+                        () -> ZipUtils.unzipParallel(
+                                zipFile, tempDir.resolve("entries"), new ZipLimits(1, Long.MAX_VALUE, 200)))
+                .isInstanceOf(ZipException.class);
+        assertThatThrownBy(
+                        () -> ZipUtils.unzipParallel(zipFile, tempDir.resolve("size"), new ZipLimits(10, 150, 200)))
+                .isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    @DisplayName("대상 폴더 밖을 가리키는 엔트리는 거부된다")
+    void unzipParallel_WithZipSlipEntry_ThrowsIOException() throws IOException {
+        // given
+        Path zipFile = createZip(Map.of("../evil.txt", new byte[10]));
+
+        // when & then
+        assertThatThrownBy(() -> ZipUtils.unzipParallel(zipFile, tempDir.resolve("slip"), ZipLimits.DEFAULT))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> ZipUtils.normalizeEntryName("a/../../evil.txt")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("정규화한 경로가 겹치거나 파일과 디렉토리 경로가 충돌하는 엔트리가 있으면 아무것도 해제하지 않는다")
+    void unzipParallel_WithDuplicateResolvedPaths_ThrowsZipException() throws IOException {
+        // given
+        Path duplicateZip = createZip(Map.of("textures/a.bin", new byte[10], "textures/./a.bin", new byte[20]));
+        Path conflictZip = createZip(Map.of("model", new byte[10], "model/texture.bin", new byte[20]));
+        Path duplicateDir = tempDir.resolve("duplicate");
+        Path conflictDir = tempDir.resolve("conflict");
+
+        // when & then
+        assertThatThrownBy(() -> ZipUtils.unzipParallel(duplicateZip, duplicateDir, ZipLimits.DEFAULT))
+                .isInstanceOf(ZipException.class);
+        assertThatThrownBy(() -> ZipUtils.unzipParallel(conflictZip, conflictDir, ZipLimits.DEFAULT))
+                .isInstanceOf(ZipException.class);
+        assertThat(duplicateDir).doesNotExist();
+        assertThat(conflictDir).doesNotExist();
+    }
+
+    private Path createZip(Map<String, byte[]> entries) throws IOException {
+        Path zipFile = Files.createTempFile(tempDir, "archive", ".zip");
+        try (OutputStream os = Files.newOutputStream(zipFile);
+             ZipOutputStream zos = new ZipOutputStream(os)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                zos.write(entry.getValue());
+                zos.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+}
@@ -1,7 +1,8 @@
 package com.pluxity.user.service;
 
-import com.pluxity.authentication.entity.RefreshToken;
-import com.pluxity.authentication.repository.RefreshTokenRepository;
+import com.pluxity.authentication.repository.RefreshTokenStore;
+import com.pluxity.authentication.security.PrincipalCache;
+import com.pluxity.global.response.PageResponse;
 import com.pluxity.user.dto.*;
 import com.pluxity.user.entity.Role;
 import com.pluxity.user.entity.User;
@@ -17,11 +18,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,7 +47,10 @@ class UserServiceTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private PrincipalCache principalCache;
 
     @InjectMocks
     private UserService userService;
@@ -54,9 +62,6 @@ class UserServiceTest {
     
     private Role testRole;
     private Role adminRole;
-    
-    @Mock
-    private RefreshToken testUserRefreshToken;
 
     @BeforeEach
     void setUp() {
@@ -89,10 +94,6 @@ class UserServiceTest {
         adminRole = mock(Role.class);
         lenient().when(adminRole.getId()).thenReturn(2L);
         lenient().when(adminRole.getName()).thenReturn("ROLE_ADMIN");
-        
-        // RefreshToken 모킹
-        lenient().when(testUserRefreshToken.getToken()).thenReturn("some-refresh-token");
-        lenient().when(testUserRefreshToken.getUsername()).thenReturn("testuser");
     }
 
     @Test
@@ -284,6 +285,7 @@ class UserServiceTest {
         // then
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).delete(testUser);
+        verify(principalCache, times(1)).invalidate("testuser");
     }
 
     @Test
@@ -320,6 +322,7 @@ class UserServiceTest {
         verify(passwordEncoder).matches("password", "encodedPassword");
         verify(passwordEncoder).encode("newPassword");
         verify(testUser).changePassword("encodedNewPassword");
+        verify(principalCache).invalidate("testuser");
     }
 
     @Test
@@ -435,25 +438,24 @@ class UserServiceTest {
     void isLoggedIn_ReturnsCorrectLoginStatusForAllUsers() {
         // given
         // testUser는 로그인 상태, anotherUser는 로그아웃 상태로 설정
-        when(userRepository.findAll()).thenReturn(List.of(testUser, anotherUser));
-        when(refreshTokenRepository.findById("testuser")).thenReturn(Optional.of(testUserRefreshToken)); // testuser는 토큰 있음 (로그인)
-        when(refreshTokenRepository.findById("anotheruser")).thenReturn(Optional.empty());      // anotheruser는 토큰 없음 (로그아웃)
-
-        // 역할 설정 (예시)
-        List<Role> testUserRoles = List.of(testRole);
-        when(testUser.getRoles()).thenReturn(testUserRoles);
-
-        List<Role> anotherUserRoles = List.of(adminRole);
-        when(anotherUser.getRoles()).thenReturn(anotherUserRoles);
+        when(userRepository.findUsernamesByKeyword(eq(""), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of("testuser", "anotheruser"), PageRequest.of(0, 20), 2));
+        when(userRepository.findAllByUsernameInOrderByIdAsc(List.of("testuser", "anotheruser")))
+                .thenReturn(List.of(testUser, anotherUser));
+        when(refreshTokenStore.findLoggedInUsernames(List.of("testuser", "anotheruser")))
+                .thenReturn(Set.of("testuser"));
 
+        when(testUser.getRoles()).thenReturn(List.of(testRole));
+        when(anotherUser.getRoles()).thenReturn(List.of(adminRole));
 
         // when
-        List<UserLoggedInResponse> responses = userService.isLoggedIn();
+        PageResponse<UserLoggedInResponse> responses = userService.isLoggedIn(null, null, 0, 20);
 
         // then
-        assertThat(responses).hasSize(2);
+        assertThat(responses.content()).hasSize(2);
+        assertThat(responses.totalElements()).isEqualTo(2);
 
-        UserLoggedInResponse testUserResponse = responses.stream()
+        UserLoggedInResponse testUserResponse = responses.content().stream()
                 .filter(r -> r.username().equals("testuser"))
                 .findFirst()
                 .orElseThrow();
@@ -466,78 +468,80 @@ class UserServiceTest {
         assertThat(testUserResponse.roles()).hasSize(1);
         assertThat(testUserResponse.roles().get(0).name()).isEqualTo("ROLE_USER");
 
-
-        UserLoggedInResponse anotherUserResponse = responses.stream()
+        UserLoggedInResponse anotherUserResponse = responses.content().stream()
                 .filter(r -> r.username().equals("anotheruser"))
                 .findFirst()
                 .orElseThrow();
         assertThat(anotherUserResponse.isLoggedIn()).isFalse();
         assertThat(anotherUserResponse.id()).isEqualTo(2L);
-        assertThat(anotherUserResponse.name()).isEqualTo("다른유저");
-        assertThat(anotherUserResponse.code()).isEqualTo("ANO002");
-        assertThat(anotherUserResponse.phoneNumber()).isEqualTo("010-8765-4321");
-        assertThat(anotherUserResponse.department()).isEqualTo("기획팀");
-        assertThat(anotherUserResponse.roles()).hasSize(1);
         assertThat(anotherUserResponse.roles().get(0).name()).isEqualTo("ROLE_ADMIN");
 
-        verify(userRepository, times(1)).findAll();
-        verify(refreshTokenRepository, times(1)).findById("testuser");
-        verify(refreshTokenRepository, times(1)).findById("anotheruser");
+        // 로그인 여부는 사용자 수와 관계없이 한 번에 조회
+        verify(refreshTokenStore, times(1)).findLoggedInUsernames(anyCollection());
+        verify(userRepository, times(1)).findUsernamesByKeyword("", PageRequest.of(0, 20));
+        verify(userRepository, never()).findUsernamesByKeyword(anyString());
     }
 
     @Test
-    @DisplayName("isLoggedIn - 모든 사용자가 로그인한 상태")
-    void isLoggedIn_AllUsersLoggedIn() {
+    @DisplayName("isLoggedIn - 필터가 없으면 DB 에서 요청한 페이지만 조회하고 전체 건수는 카운트 결과를 쓴다")
+    void isLoggedIn_WithoutFilter_PagesInRepository() {
         // given
-        when(userRepository.findAll()).thenReturn(List.of(testUser, anotherUser));
-        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.of(mock(RefreshToken.class))); // 모든 사용자가 토큰을 가짐
-
-        // 역할 설정
-        when(testUser.getRoles()).thenReturn(List.of(testRole));
+        when(userRepository.findUsernamesByKeyword(eq("user"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of("anotheruser"), PageRequest.of(1, 1), 3));
+        when(refreshTokenStore.findLoggedInUsernames(List.of("anotheruser"))).thenReturn(Set.of());
+        when(userRepository.findAllByUsernameInOrderByIdAsc(List.of("anotheruser")))
+                .thenReturn(List.of(anotherUser));
         when(anotherUser.getRoles()).thenReturn(List.of(adminRole));
 
         // when
-        List<UserLoggedInResponse> responses = userService.isLoggedIn();
+        PageResponse<UserLoggedInResponse> responses = userService.isLoggedIn(" user ", null, 1, 1);
 
         // then
-        assertThat(responses).hasSize(2);
-        assertThat(responses.stream().allMatch(UserLoggedInResponse::isLoggedIn)).isTrue();
-        verify(refreshTokenRepository, times(1)).findById("testuser");
-        verify(refreshTokenRepository, times(1)).findById("anotheruser");
+        assertThat(responses.content()).extracting(UserLoggedInResponse::username).containsExactly("anotheruser");
+        assertThat(responses.content().get(0).isLoggedIn()).isFalse();
+        assertThat(responses.totalElements()).isEqualTo(3);
+        assertThat(responses.totalPages()).isEqualTo(3);
+        verify(userRepository).findUsernamesByKeyword("user", PageRequest.of(1, 1));
+        verify(userRepository, never()).findUsernamesByKeyword(anyString());
     }
 
     @Test
-    @DisplayName("isLoggedIn - 모든 사용자가 로그아웃한 상태")
-    void isLoggedIn_AllUsersLoggedOut() {
+    @DisplayName("isLoggedIn - 로그인 여부 필터와 페이지가 함께 적용된다")
+    void isLoggedIn_WithLoggedInFilter_PagesFilteredUsers() {
         // given
-        when(userRepository.findAll()).thenReturn(List.of(testUser, anotherUser));
-        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.empty()); // 모든 사용자가 토큰 없음
-
-        // 역할 설정
+        when(userRepository.findUsernamesByKeyword("user"))
+                .thenReturn(List.of("testuser", "anotheruser", "thirduser"));
+        when(refreshTokenStore.findLoggedInUsernames(List.of("testuser", "anotheruser", "thirduser")))
+                .thenReturn(Set.of("testuser", "thirduser"));
+        when(userRepository.findAllByUsernameInOrderByIdAsc(List.of("testuser")))
+                .thenReturn(List.of(testUser));
         when(testUser.getRoles()).thenReturn(List.of(testRole));
-        when(anotherUser.getRoles()).thenReturn(List.of(adminRole));
 
         // when
-        List<UserLoggedInResponse> responses = userService.isLoggedIn();
+        PageResponse<UserLoggedInResponse> responses = userService.isLoggedIn(" user ", true, 0, 1);
 
         // then
-        assertThat(responses).hasSize(2);
-        assertThat(responses.stream().noneMatch(UserLoggedInResponse::isLoggedIn)).isTrue();
-        verify(refreshTokenRepository, times(1)).findById("testuser");
-        verify(refreshTokenRepository, times(1)).findById("anotheruser");
+        assertThat(responses.content()).extracting(UserLoggedInResponse::username).containsExactly("testuser");
+        assertThat(responses.content().get(0).isLoggedIn()).isTrue();
+        assertThat(responses.totalElements()).isEqualTo(2);
+        assertThat(responses.totalPages()).isEqualTo(2);
+        verify(refreshTokenStore, times(1)).findLoggedInUsernames(anyCollection());
     }
 
     @Test
-    @DisplayName("isLoggedIn - 사용자가 없는 경우 빈 리스트 반환")
+    @DisplayName("isLoggedIn - 사용자가 없는 경우 빈 페이지 반환")
     void isLoggedIn_NoUsers() {
         // given
-        when(userRepository.findAll()).thenReturn(List.of());
+        when(userRepository.findUsernamesByKeyword(eq(""), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
 
         // when
-        List<UserLoggedInResponse> responses = userService.isLoggedIn();
+        PageResponse<UserLoggedInResponse> responses = userService.isLoggedIn(null, null, 0, 20);
 
         // then
-        assertThat(responses).isEmpty();
-        verify(refreshTokenRepository, never()).findById(anyString());
+        assertThat(responses.content()).isEmpty();
+        assertThat(responses.totalElements()).isZero();
+        verify(refreshTokenStore, never()).findLoggedInUsernames(anyCollection());
+        verify(userRepository, never()).findAllByUsernameInOrderByIdAsc(anyCollection());
     }
-} 
\ No newline at end of file
+}
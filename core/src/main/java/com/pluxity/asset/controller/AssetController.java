@@ -20,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping("/assets")
 @RestController
@@ -34,6 +35,7 @@ public class AssetController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "목록 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "500",
                         description = "서버 오류",
@@ -43,14 +45,43 @@ public class AssetController {
                                         schema = @Schema(implementation = ErrorResponseBody.class)))
             })
     @GetMapping
-    public ResponseEntity<DataResponseBody<List<AssetResponse>>> getAssets() {
+    public ResponseEntity<DataResponseBody<List<AssetResponse>>> getAssets(WebRequest webRequest) {
+        if (webRequest.checkNotModified(service.getAssetsETag())) {
+            return null;
+        }
         return ResponseEntity.ok(DataResponseBody.of(service.getAssets()));
     }
 
+    @Operation(summary = "카테고리 하위 트리 에셋 목록 조회", description = "카테고리와 모든 하위 카테고리에 속한 에셋 목록을 조회합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "목록 조회 성공"),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "카테고리를 찾을 수 없음",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @GetMapping("/categories/{categoryId}")
+    public ResponseEntity<DataResponseBody<List<AssetResponse>>> getAssetsInCategorySubtree(
+            @Parameter(description = "카테고리 ID", required = true) @PathVariable Long categoryId) {
+        return ResponseEntity.ok(DataResponseBody.of(service.getAssetsInCategorySubtree(categoryId)));
+    }
+
     @Operation(summary = "에셋 상세 조회", description = "ID로 특정 에셋의 상세 정보를 조회합니다")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "에셋 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "404",
                         description = "에셋을 찾을 수 없음",
@@ -68,7 +99,11 @@ public class AssetController {
             })
     @GetMapping("/{id}")
     public ResponseEntity<DataResponseBody<AssetResponse>> getAsset(
-            @Parameter(description = "에셋 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "에셋 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(service.getAssetETag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(DataResponseBody.of(service.getAsset(id)));
     }
 
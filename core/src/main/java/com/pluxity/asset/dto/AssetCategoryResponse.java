@@ -48,6 +48,20 @@ public record AssetCategoryResponse(
                 category.getUpdatedAt());
     }
 
+    public static AssetCategoryResponse of(
+            AssetCategory category, FileResponse iconFile, List<AssetCategoryResponse> children) {
+        return new AssetCategoryResponse(
+                category.getId(),
+                category.getName(),
+                category.getCode(),
+                category.getParent() != null ? category.getParent().getId() : null,
+                children,
+                iconFile,
+                category.getAssets().stream().map(Asset::getId).collect(Collectors.toList()),
+                category.getCreatedAt(),
+                category.getUpdatedAt());
+    }
+
     public static AssetCategoryResponse fromWithoutChildren(AssetCategory category) {
         return new AssetCategoryResponse(
                 category.getId(),
@@ -1,20 +1,26 @@
 package com.pluxity.asset.repository;
 
 import com.pluxity.asset.entity.AssetCategory;
+import com.pluxity.category.repository.CategoryRepository;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface AssetCategoryRepository extends JpaRepository<AssetCategory, Long> {
+public interface AssetCategoryRepository extends CategoryRepository<AssetCategory> {
 
     Optional<AssetCategory> findByCode(String code);
 
     boolean existsByCode(String code);
 
-    @Query("SELECT ac FROM AssetCategory ac WHERE ac.parent IS NULL")
-    List<AssetCategory> findAllRootCategories();
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<AssetCategory> findAll(Sort sort);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AssetCategory> findByParentId(Long parentId);
 
     @Query("SELECT ac FROM AssetCategory ac LEFT JOIN FETCH ac.assets WHERE ac.id = :id")
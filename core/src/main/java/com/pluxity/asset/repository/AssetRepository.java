@@ -2,15 +2,20 @@ package com.pluxity.asset.repository;
 
 import com.pluxity.asset.entity.Asset;
 import com.pluxity.asset.entity.AssetCategory;
+import com.pluxity.global.entity.ResourceVersion;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AssetRepository extends JpaRepository<Asset, Long> {
     List<Asset> findByCategory(AssetCategory category);
 
+    List<Asset> findAllByCategoryIdInOrderByIdAsc(Collection<Long> categoryIds);
+
     Optional<Asset> findByCode(String code);
 
     boolean existsByCodeAndIdNot(String code, Long id);
@@ -20,4 +25,35 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     Optional<Asset> findByNameAndIdNot(String name, Long id);
 
     Optional<Asset> findByCodeAndIdNot(String code, Long id);
+
+    @Query(
+            """
+            SELECT new com.pluxity.global.entity.ResourceVersion(
+                COUNT(a),
+                MAX(GREATEST(a.updatedAt,
+                             COALESCE(c.updatedAt, a.updatedAt),
+                             COALESCE(af.updatedAt, a.updatedAt),
+                             COALESCE(tf.updatedAt, a.updatedAt))))
+            FROM Asset a
+            LEFT JOIN a.category c
+            LEFT JOIN FileEntity af ON af.id = a.fileId
+            LEFT JOIN FileEntity tf ON tf.id = a.thumbnailFileId
+            WHERE a.id = :id
+            """)
+    ResourceVersion findVersionById(Long id);
+
+    @Query(
+            """
+            SELECT new com.pluxity.global.entity.ResourceVersion(
+                COUNT(a),
+                MAX(GREATEST(a.updatedAt,
+                             COALESCE(c.updatedAt, a.updatedAt),
+                             COALESCE(af.updatedAt, a.updatedAt),
+                             COALESCE(tf.updatedAt, a.updatedAt))))
+            FROM Asset a
+            LEFT JOIN a.category c
+            LEFT JOIN FileEntity af ON af.id = a.fileId
+            LEFT JOIN FileEntity tf ON tf.id = a.thumbnailFileId
+            """)
+    ResourceVersion findCollectionVersion();
 }
@@ -5,12 +5,17 @@ import com.pluxity.asset.dto.AssetCategoryResponse;
 import com.pluxity.asset.dto.AssetCategoryUpdateRequest;
 import com.pluxity.asset.entity.AssetCategory;
 import com.pluxity.asset.repository.AssetCategoryRepository;
+import com.pluxity.category.service.CategoryTrees;
+import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,14 +36,29 @@ public class AssetCategoryService {
 
     @Transactional(readOnly = true)
     public List<AssetCategoryResponse> getAssetCategories() {
-        List<AssetCategory> categories = assetCategoryRepository.findAll();
-        return categories.stream().map(this::createAssetCategoryResponse).toList();
+        List<AssetCategory> categories = findAllCategories();
+        Map<Long, AssetCategoryResponse> responses =
+                CategoryTrees.assemble(categories, createAssetCategoryTreeMapper(categories));
+        return categories.stream().map(category -> responses.get(category.getId())).toList();
     }
 
     @Transactional(readOnly = true)
     public List<AssetCategoryResponse> getRootCategories() {
-        List<AssetCategory> rootCategories = assetCategoryRepository.findAllRootCategories();
-        return rootCategories.stream().map(this::createAssetCategoryResponse).toList();
+        List<AssetCategory> categories = findAllCategories();
+        return CategoryTrees.build(categories, createAssetCategoryTreeMapper(categories));
+    }
+
+    private List<AssetCategory> findAllCategories() {
+        return assetCategoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    private BiFunction<AssetCategory, List<AssetCategoryResponse>, AssetCategoryResponse>
+            createAssetCategoryTreeMapper(List<AssetCategory> categories) {
+        Map<Long, FileResponse> iconFiles =
+                fileService.getFileResponses(
+                        categories.stream().map(AssetCategory::getIconFileId).toList());
+        return (category, children) ->
+                AssetCategoryResponse.of(category, iconFiles.get(category.getIconFileId()), children);
     }
 
     @Transactional(readOnly = true)
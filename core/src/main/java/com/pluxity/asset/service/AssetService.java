@@ -12,9 +12,12 @@ import com.pluxity.feature.service.FeatureService;
 import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.entity.FileEntity;
 import com.pluxity.file.service.FileService;
+import com.pluxity.global.entity.ResourceVersion;
 import com.pluxity.global.exception.CustomException;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,24 +62,64 @@ public class AssetService {
         return AssetResponse.from(asset, assetFileResponse, thumbnailFileResponse);
     }
 
+    /** 에셋 상세 응답의 약한 ETag. 카테고리 변경도 반영되며, 에셋이 없으면 null 을 반환합니다. */
+    @Transactional(readOnly = true)
+    public String getAssetETag(Long id) {
+        ResourceVersion version = assetRepository.findVersionById(id);
+        return version.exists() ? version.toETag("asset-" + id) : null;
+    }
+
+    /** 에셋 목록 응답의 약한 ETag. */
+    @Transactional(readOnly = true)
+    public String getAssetsETag() {
+        return assetRepository.findCollectionVersion().toETag("assets");
+    }
+
     @Transactional(readOnly = true)
     public List<AssetResponse> getAssets() {
         List<Asset> assets = assetRepository.findAll();
-        return assets.stream()
-                .map(
-                        asset ->
-                                AssetResponse.from(asset, getFileResponse(asset), getThumbnailFileResponse(asset)))
-                .toList();
+        return getAssetResponses(assets);
     }
 
     @Transactional(readOnly = true)
     public List<AssetResponse> getAssetsByCategory(Long categoryId) {
         AssetCategory category = assetCategoryService.findById(categoryId);
         List<Asset> assets = assetRepository.findByCategory(category);
+        return getAssetResponses(assets);
+    }
+
+    /**
+     * 카테고리와 그 하위 카테고리 전체에 속한 에셋을 조회합니다. 하위 카테고리는 path 접두사 범위 조회로, 에셋은 카테고리
+     * ID IN 조회로 가져와 두 쿼리 모두 인덱스를 탈 수 있게 합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<AssetResponse> getAssetsInCategorySubtree(Long categoryId) {
+        AssetCategory category = assetCategoryService.findById(categoryId);
+        List<Long> categoryIds = new ArrayList<>();
+        categoryIds.add(category.getId());
+        for (AssetCategory descendant : assetCategoryRepository.findAllDescendants(category)) {
+            categoryIds.add(descendant.getId());
+        }
+
+        List<Asset> assets = assetRepository.findAllByCategoryIdInOrderByIdAsc(categoryIds);
+        return getAssetResponses(assets);
+    }
+
+    private List<AssetResponse> getAssetResponses(List<Asset> assets) {
+        List<Long> fileIds = new ArrayList<>();
+        for (Asset asset : assets) {
+            fileIds.add(asset.getFileId());
+            fileIds.add(asset.getThumbnailFileId());
+        }
+
+        Map<Long, FileResponse> fileResponses = fileService.getFileResponses(fileIds);
         return assets.stream()
                 .map(
                         asset ->
-                                AssetResponse.from(asset, getFileResponse(asset), getThumbnailFileResponse(asset)))
+                                AssetResponse.from(
+                                        asset,
+                                        fileResponses.get(asset.getFileId()),
+                                        fileResponses.get(asset.getThumbnailFileId())))
                 .toList();
     }
 
@@ -175,16 +218,21 @@ public class AssetService {
             asset.updateCategory(category);
         }
 
-        if (request.fileId() != null) {
+        if (request.fileId() != null && !request.fileId().equals(asset.getFileId())) {
+            Long previousFileId = asset.getFileId();
             FileEntity fileEntity =
                     fileService.finalizeUpload(request.fileId(), asset.getAssetFilePath());
             asset.updateFileEntity(fileEntity);
+            fileService.releaseFile(previousFileId);
         }
 
-        if (request.thumbnailFileId() != null) {
+        if (request.thumbnailFileId() != null
+                && !request.thumbnailFileId().equals(asset.getThumbnailFileId())) {
+            Long previousThumbnailFileId = asset.getThumbnailFileId();
             FileEntity thumbnailEntity =
                     fileService.finalizeUpload(request.thumbnailFileId(), asset.getThumbnailFilePath());
             asset.updateThumbnailFileEntity(thumbnailEntity);
+            fileService.releaseFile(previousThumbnailFileId);
         }
     }
 
@@ -232,6 +280,8 @@ public class AssetService {
         }
 
         log.info("에셋 [{}] 삭제 진행", id);
+        fileService.releaseFile(asset.getFileId());
+        fileService.releaseFile(asset.getThumbnailFileId());
         assetRepository.delete(asset);
     }
 
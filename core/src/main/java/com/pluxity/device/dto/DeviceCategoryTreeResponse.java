@@ -28,4 +28,12 @@ public record DeviceCategoryTreeResponse(
                         .map(child -> DeviceCategoryTreeResponse.from(child, null))
                         .collect(Collectors.toList()));
     }
+
+    public static DeviceCategoryTreeResponse of(
+            DeviceCategory deviceCategory,
+            FileResponse iconFile,
+            List<DeviceCategoryTreeResponse> children) {
+        return new DeviceCategoryTreeResponse(
+                deviceCategory.getId(), deviceCategory.getName(), iconFile, children);
+    }
 }
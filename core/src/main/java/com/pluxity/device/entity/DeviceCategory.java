@@ -8,9 +8,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "device_category")
+@Table(
+        name = "device_category",
+        indexes = @Index(name = "idx_device_category_path", columnList = "path"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "CATEGORY_TYPE")
 @DiscriminatorValue("DEVICE_BASE")
@@ -64,7 +70,7 @@ public class DeviceCategory extends Category<DeviceCategory> {
         if (newParent != null) {
             newParent.getChildren().add(this);
         }
-        this.validateDepth();
+        this.refreshPath();
     }
 
     public String getPrefix() {
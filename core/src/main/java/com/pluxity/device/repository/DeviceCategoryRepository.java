@@ -1,8 +1,8 @@
 package com.pluxity.device.repository;
 
+import com.pluxity.category.repository.CategoryRepository;
 import com.pluxity.device.entity.DeviceCategory;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface DeviceCategoryRepository extends JpaRepository<DeviceCategory, Long> {}
+public interface DeviceCategoryRepository extends CategoryRepository<DeviceCategory> {}
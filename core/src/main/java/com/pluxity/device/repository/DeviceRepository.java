@@ -0,0 +1,8 @@
+package com.pluxity.device.repository;
+
+import com.pluxity.device.entity.Device;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeviceRepository extends JpaRepository<Device, String> {}
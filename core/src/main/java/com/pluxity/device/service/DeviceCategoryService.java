@@ -1,18 +1,21 @@
 package com.pluxity.device.service;
 
+import com.pluxity.category.repository.CategoryRepository;
 import com.pluxity.category.service.CategoryService;
+import com.pluxity.category.service.CategoryTrees;
 import com.pluxity.device.dto.DeviceCategoryRequest;
 import com.pluxity.device.dto.DeviceCategoryResponse;
 import com.pluxity.device.dto.DeviceCategoryTreeResponse;
 import com.pluxity.device.entity.DeviceCategory;
 import com.pluxity.device.repository.DeviceCategoryRepository;
+import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.constant.ErrorCode;
 import com.pluxity.global.exception.CustomException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +27,7 @@ public class DeviceCategoryService extends CategoryService<DeviceCategory> {
     private final FileService fileService;
 
     @Override
-    protected JpaRepository<DeviceCategory, Long> getRepository() {
+    protected CategoryRepository<DeviceCategory> getRepository() {
         return deviceCategoryRepository;
     }
 
@@ -76,23 +79,23 @@ public class DeviceCategoryService extends CategoryService<DeviceCategory> {
 
     @Transactional(readOnly = true)
     public List<DeviceCategoryResponse> getRootDeviceCategoryResponses() {
-        return getRootCategories().stream()
-                .map(this::createDeviceCategoryResponse)
-                .collect(Collectors.toList());
+        return createDeviceCategoryResponses(getRootCategories());
     }
 
     @Transactional(readOnly = true)
     public List<DeviceCategoryResponse> getChildrenResponses(Long id) {
-        return getChildren(id).stream()
-                .map(this::createDeviceCategoryResponse)
-                .collect(Collectors.toList());
+        return createDeviceCategoryResponses(getChildren(id));
     }
 
     @Transactional(readOnly = true)
     public List<DeviceCategoryTreeResponse> getDeviceCategoryTree() {
-        return getRootCategories().stream()
-                .map(this::createDeviceCategoryTreeResponse)
-                .collect(Collectors.toList());
+        List<DeviceCategory> categories = findAllCategories();
+        Map<Long, FileResponse> iconFiles = getIconFileResponses(categories);
+        return CategoryTrees.build(
+                categories,
+                (category, children) ->
+                        DeviceCategoryTreeResponse.of(
+                                category, iconFiles.get(category.getIconFileId()), children));
     }
 
     @Transactional(readOnly = true)
@@ -108,12 +111,18 @@ public class DeviceCategoryService extends CategoryService<DeviceCategory> {
                         : null);
     }
 
-    protected DeviceCategoryTreeResponse createDeviceCategoryTreeResponse(
-            DeviceCategory deviceCategory) {
-        return DeviceCategoryTreeResponse.from(
-                deviceCategory,
-                deviceCategory.getIconFileId() != null
-                        ? fileService.getFileResponse(deviceCategory.getIconFileId())
-                        : null);
+    private List<DeviceCategoryResponse> createDeviceCategoryResponses(
+            List<DeviceCategory> categories) {
+        Map<Long, FileResponse> iconFiles = getIconFileResponses(categories);
+        return categories.stream()
+                .map(
+                        category ->
+                                DeviceCategoryResponse.from(category, iconFiles.get(category.getIconFileId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, FileResponse> getIconFileResponses(List<DeviceCategory> categories) {
+        return fileService.getFileResponses(
+                categories.stream().map(DeviceCategory::getIconFileId).toList());
     }
 }
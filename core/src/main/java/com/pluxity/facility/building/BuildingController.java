@@ -7,6 +7,7 @@ import com.pluxity.facility.facility.dto.FacilityHistoryResponse;
 import com.pluxity.global.annotation.ResponseCreated;
 import com.pluxity.global.response.DataResponseBody;
 import com.pluxity.global.response.ErrorResponseBody;
+import com.pluxity.global.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,10 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 // @RestController
 // @RequestMapping("/buildings")
@@ -79,6 +83,7 @@ public class BuildingController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "건물 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "404",
                         description = "건물을 찾을 수 없음",
@@ -96,11 +101,15 @@ public class BuildingController {
             })
     @GetMapping("/{id}")
     public ResponseEntity<DataResponseBody<BuildingResponse>> get(
-            @Parameter(description = "건물 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "건물 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(service.getETag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(DataResponseBody.of(service.findById(id)));
     }
 
-    @Operation(summary = "특정 건물 이력 조회", description = "특정 ID를 가진 건물의 이력 목록을 조회합니다.")
+    @Operation(summary = "특정 건물 이력 조회", description = "특정 ID를 가진 건물의 이력을 최신순으로 페이지 단위 조회합니다.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -126,9 +135,13 @@ public class BuildingController {
                                         schema = @Schema(implementation = ErrorResponseBody.class)))
             })
     @GetMapping("/{id}/history")
-    public ResponseEntity<DataResponseBody<List<FacilityHistoryResponse>>> getBuildingHistoryById(
-            @PathVariable Long id) {
-        return ResponseEntity.ok(DataResponseBody.of(service.findFacilityHistories(id)));
+    public ResponseEntity<DataResponseBody<PageResponse<FacilityHistoryResponse>>> getBuildingHistoryById(
+            @PathVariable Long id,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") @Min(0)
+                    int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(100)
+                    int size) {
+        return ResponseEntity.ok(DataResponseBody.of(service.findFacilityHistories(id, page, size)));
     }
 
     @Operation(summary = "건물 수정", description = "기존 건물의 정보를 수정합니다")
@@ -10,8 +10,11 @@ import com.pluxity.facility.facility.dto.FacilityResponse;
 import com.pluxity.facility.floor.dto.FloorRequest;
 import com.pluxity.facility.floor.dto.FloorResponse;
 import com.pluxity.facility.strategy.FloorStrategy;
+import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
+import com.pluxity.global.response.PageResponse;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +51,7 @@ public class BuildingService {
     @Transactional(readOnly = true)
     public List<BuildingResponse> findAll() {
         List<Building> buildings = repository.findAll();
+        Map<Long, FileResponse> fileResponses = facilityService.getFileResponses(buildings);
 
         return buildings.stream()
                 .map(
@@ -56,15 +60,20 @@ public class BuildingService {
                                         .facility(
                                                 FacilityResponse.from(
                                                         building,
-                                                        fileService.getFileResponse(building.getDrawingFileId()),
-                                                        fileService.getFileResponse(building.getThumbnailFileId())))
+                                                        fileResponses.get(building.getDrawingFileId()),
+                                                        fileResponses.get(building.getThumbnailFileId())))
                                         .build())
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public String getETag(Long id) {
+        return facilityService.getETag(id);
+    }
+
     @Transactional(readOnly = true)
     public BuildingResponse findById(Long id) {
-        Building building = (Building) facilityService.findById(id);
+        Building building = facilityService.findById(id, Building.class);
         List<FloorResponse> floorResponses = floorStrategy.findAllByFacility(building);
 
         return BuildingResponse.builder()
@@ -78,8 +87,8 @@ public class BuildingService {
     }
 
     @Transactional(readOnly = true)
-    public List<FacilityHistoryResponse> findFacilityHistories(Long id) {
-        return facilityService.findFacilityHistories(id);
+    public PageResponse<FacilityHistoryResponse> findFacilityHistories(Long id, int page, int size) {
+        return facilityService.findFacilityHistories(id, page, size);
     }
 
     @Transactional
@@ -92,7 +101,7 @@ public class BuildingService {
 
     @Transactional
     public void delete(Long id) {
-        var building = facilityService.findById(id);
+        var building = facilityService.findById(id, Building.class);
         floorStrategy.delete(building);
         facilityService.deleteFacility(id);
     }
@@ -9,9 +9,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "facility_category")
+@Table(
+        name = "facility_category",
+        indexes = @Index(name = "idx_facility_category_path", columnList = "path"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FacilityCategory extends Category<FacilityCategory> {
@@ -37,7 +43,7 @@ public class FacilityCategory extends Category<FacilityCategory> {
         if (parent != null) {
             parent.getChildren().add(this);
         }
-        this.validateDepth();
+        this.refreshPath();
     }
 
     public void updateImageFile(Long imageFileId) {
@@ -1,10 +1,10 @@
 package com.pluxity.facility.category;
 
+import com.pluxity.category.repository.CategoryRepository;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface FacilityCategoryRepository extends JpaRepository<FacilityCategory, Long> {
+public interface FacilityCategoryRepository extends CategoryRepository<FacilityCategory> {
     Optional<FacilityCategory> findByNameAndParentId(String name, Long parentId);
 }
@@ -0,0 +1,54 @@
+package com.pluxity.facility.facility;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시설 이력 페이지 캐시. 리비전은 바뀌지 않으므로 시설의 최신 리비전 번호를 키에 포함하면, 새 리비전이 생길 때 이전 키는 더 이상 조회되지 않고 무효화가
+ * 필요 없습니다. 파일 상태/URL 은 바뀔 수 있으므로 파일 ID 만 보관합니다. 적중률은 {@code cache.gets{cache="facilityHistory"}} 메트릭으로
+ * 노출됩니다.
+ */
+@Component
+public class FacilityHistoryCache {
+
+    private static final String CACHE_NAME = "facilityHistory";
+
+    private final Cache<Key, HistoryPage> cache;
+
+    public FacilityHistoryCache(
+            MeterRegistry meterRegistry,
+            @Value("${facility.history-cache.ttl:1h}") Duration ttl,
+            @Value("${facility.history-cache.maximum-size:1000}") long maximumSize) {
+        this.cache =
+                Caffeine.newBuilder().maximumSize(maximumSize).expireAfterAccess(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public HistoryPage get(
+            Long facilityId, Integer latestRevision, int page, int size, Supplier<HistoryPage> loader) {
+        return cache.get(new Key(facilityId, latestRevision, page, size), key -> loader.get());
+    }
+
+    private record Key(Long facilityId, Integer latestRevision, int page, int size) {}
+
+    public record HistoryPage(List<Snapshot> snapshots, long totalElements) {}
+
+    /** 리비전 시점의 시설 정보 */
+    public record Snapshot(
+            String facilityType,
+            String code,
+            String name,
+            String description,
+            Long drawingFileId,
+            Long thumbnailFileId,
+            Date changedAt,
+            String revisionType) {}
+}
@@ -1,9 +1,11 @@
 package com.pluxity.facility.facility;
 
+import com.pluxity.facility.facility.dto.FacilityVersion;
 import java.util.List;
 import java.util.Optional;
 import lombok.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,5 +19,29 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
 
     boolean existsByCode(String code);
 
+    /** 하위 타입 테이블을 조인하지 않고 facility 테이블의 구분 값(STATION, BUILDING ...)만 조회합니다. */
+    @Query(
+            value = "SELECT f.facility_type FROM facility f WHERE f.id = :id AND f.deleted = false",
+            nativeQuery = true)
+    Optional<String> findFacilityTypeById(Long id);
+
     Optional<Facility> findByCode(String code);
+
+    @Query(
+            """
+            SELECT new com.pluxity.facility.facility.dto.FacilityVersion(
+                f.updatedAt,
+                (SELECT COUNT(fl) FROM Floor fl WHERE fl.facility.id = f.id),
+                (SELECT MAX(fl.id) FROM Floor fl WHERE fl.facility.id = f.id),
+                (SELECT COUNT(ft) FROM Feature ft WHERE ft.facility.id = f.id),
+                (SELECT MAX(ft.updatedAt) FROM Feature ft WHERE ft.facility.id = f.id),
+                (SELECT COUNT(sl) FROM StationLine sl WHERE sl.station.id = f.id),
+                (SELECT MAX(sl.updatedAt) FROM StationLine sl WHERE sl.station.id = f.id),
+                (SELECT MAX(l.updatedAt) FROM Location l WHERE l.facility.id = f.id),
+                (SELECT MAX(fe.updatedAt) FROM FileEntity fe
+                 WHERE fe.id = f.drawingFileId OR fe.id = f.thumbnailFileId))
+            FROM Facility f
+            WHERE f.id = :id
+            """)
+    Optional<FacilityVersion> findVersionById(Long id);
 }
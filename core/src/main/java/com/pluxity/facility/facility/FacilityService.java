@@ -1,18 +1,29 @@
 package com.pluxity.facility.facility;
 
+import com.pluxity.facility.facility.FacilityHistoryCache.HistoryPage;
+import com.pluxity.facility.facility.FacilityHistoryCache.Snapshot;
 import com.pluxity.facility.facility.dto.FacilityCreateRequest;
 import com.pluxity.facility.facility.dto.FacilityHistoryResponse;
 import com.pluxity.facility.facility.dto.FacilityUpdateRequest;
+import com.pluxity.feature.service.FeatureSpatialIndexService;
 import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
+import com.pluxity.global.response.PageResponse;
 import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionSort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +39,8 @@ public class FacilityService {
 
     private final String PREFIX = "facilities/";
     private final FacilityRevisionRepository facilityRevisionRepository;
+    private final FeatureSpatialIndexService featureSpatialIndexService;
+    private final FacilityHistoryCache facilityHistoryCache;
 
     @Transactional
     public Facility save(Facility facility, @Valid FacilityCreateRequest request) {
@@ -87,6 +100,41 @@ public class FacilityService {
                                         "Facility not found", HttpStatus.NOT_FOUND, "해당 시설을 찾을 수 없습니다."));
     }
 
+    /**
+     * 호출하는 쪽이 타입을 알고 있을 때 사용합니다. JOINED 상속의 다형성 조회는 모든 하위 타입 테이블을 외부 조인하지만, 이 조회는 해당 하위 타입 테이블과
+     * facility 테이블만 읽습니다. 다른 타입의 시설이면 찾지 못한 것으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public <T extends Facility> T findById(Long id, Class<T> type) {
+        T facility = entityManager.find(type, id);
+        if (facility == null) {
+            throw new CustomException("Facility not found", HttpStatus.NOT_FOUND, "해당 시설을 찾을 수 없습니다.");
+        }
+        return facility;
+    }
+
+    /** 시설 구분 값(STATION, BUILDING ...)을 facility 테이블만 읽어 조회합니다. */
+    @Transactional(readOnly = true)
+    public String getFacilityType(Long id) {
+        return facilityRepository
+                .findFacilityTypeById(id)
+                .orElseThrow(
+                        () ->
+                                new CustomException(
+                                        "Facility not found", HttpStatus.NOT_FOUND, "해당 시설을 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return facilityRepository.findFacilityTypeById(id).isPresent();
+    }
+
+    /** 시설 상세 응답의 약한 ETag. 시설이 없으면 null 을 반환해 일반 조회 경로에서 404가 나도록 합니다. */
+    @Transactional(readOnly = true)
+    public String getETag(Long id) {
+        return facilityRepository.findVersionById(id).map(version -> version.toETag(id)).orElse(null);
+    }
+
     @Transactional(readOnly = true)
     protected List<Facility> findAll() {
         return facilityRepository.findAll();
@@ -118,10 +166,13 @@ public class FacilityService {
         if (request.thumbnailFileId() != null
                 && !request.thumbnailFileId().equals(facility.getThumbnailFileId())) {
             String filePath = PREFIX + facility.getId() + "/";
+            Long previousThumbnailFileId = facility.getThumbnailFileId();
             facility.updateThumbnailFileId(
                     fileService.finalizeUpload(request.thumbnailFileId(), filePath));
+            fileService.releaseFile(previousThumbnailFileId);
         }
 
+        // 이전 도면은 변경 이력에서 계속 참조하므로 여기서 해제하지 않고, 시설 삭제 시 이력의 파일과 함께 해제한다.
         if (request.drawingFileId() != null
                 && !request.drawingFileId().equals(facility.getDrawingFileId())) {
             String filePath = PREFIX + facility.getId() + "/";
@@ -133,7 +184,7 @@ public class FacilityService {
 
     @Transactional
     public void update(Long id, Facility newFacility) {
-        Facility facility = findById(id);
+        Facility facility = findById(id, newFacility.getClass());
 
         // 코드 변경 요청이 있고, 기존 코드와 다른 경우에만 중복 검사
         if (newFacility.getCode() != null && !newFacility.getCode().equals(facility.getCode())) {
@@ -147,54 +198,77 @@ public class FacilityService {
     @Transactional
     public void deleteFacility(Long id) {
         Facility facility = findById(id);
+        findReferencedFileIds(facility).forEach(fileService::releaseFile);
         facilityRepository.delete(facility);
+        featureSpatialIndexService.evict(id);
+    }
+
+    /**
+     * 시설과 그 변경 이력이 참조하는 모든 도면/썸네일 파일 ID. 교체된 도면은 이력에서 계속 보여야 하므로 시설이 삭제될 때 한꺼번에 해제합니다. 이미 해제된
+     * 파일을 다시 해제해도 참조 수는 바뀌지 않습니다.
+     */
+    private Set<Long> findReferencedFileIds(Facility facility) {
+        Set<Long> fileIds = new LinkedHashSet<>();
+        fileIds.add(facility.getDrawingFileId());
+        fileIds.add(facility.getThumbnailFileId());
+        for (Revision<Integer, Facility> revision :
+                facilityRevisionRepository.findRevisions(facility.getId())) {
+            fileIds.add(revision.getEntity().getDrawingFileId());
+            fileIds.add(revision.getEntity().getThumbnailFileId());
+        }
+        fileIds.remove(null);
+        return fileIds;
     }
 
+    /**
+     * 시설 이력을 최신 리비전부터 페이지 단위로 조회합니다. 리비전 페이지는 최신 리비전 번호를 키로 캐시되고, 페이지의 도면/썸네일 파일은 한 번의 IN 쿼리로
+     * 조회하므로 이력 수와 관계없이 쿼리 수가 일정합니다.
+     */
     @Transactional(readOnly = true)
-    public List<FacilityHistoryResponse> findFacilityHistories(Long facilityId) {
-        facilityRepository
-                .findById(facilityId)
-                .orElseThrow(
-                        () ->
-                                new CustomException(
-                                        "Facility not found", HttpStatus.NOT_FOUND, "해당 시설을 찾을 수 없습니다."));
+    public PageResponse<FacilityHistoryResponse> findFacilityHistories(
+            Long facilityId, int page, int size) {
+        if (!existsById(facilityId)) {
+            throw new CustomException("Facility not found", HttpStatus.NOT_FOUND, "해당 시설을 찾을 수 없습니다.");
+        }
 
         try {
-            // Spring Data Envers를 이용한 이력 조회
-            List<FacilityHistoryResponse> historyResponses = new ArrayList<>();
-            facilityRevisionRepository
-                    .findRevisions(facilityId)
-                    .forEach(
-                            revision -> {
-                                Facility facility = revision.getEntity();
-                                // getMetadata()로 RevisionMetadata 객체 접근
-                                Date revisionDate =
-                                        revision
-                                                .getMetadata()
-                                                .getRevisionInstant()
-                                                .map(instant -> new Date(instant.toEpochMilli()))
-                                                .orElse(new Date());
-
-                                String revisionType = revision.getMetadata().getRevisionType().name();
-
-                                // 파일 정보 가져오기
-                                FileResponse drawingFileResponse = getDrawingFileResponse(facility);
-                                FileResponse thumbnailFileResponse = getThumbnailFileResponse(facility);
-
-                                historyResponses.add(
-                                        new FacilityHistoryResponse(
-                                                facilityId,
-                                                facility.getClass().getSimpleName(),
-                                                facility.getCode(),
-                                                facility.getName(),
-                                                facility.getDescription(),
-                                                drawingFileResponse,
-                                                thumbnailFileResponse,
-                                                revisionDate,
-                                                revisionType));
-                            });
-
-            return historyResponses;
+            Integer latestRevision =
+                    facilityRevisionRepository
+                            .findLastChangeRevision(facilityId)
+                            .flatMap(Revision::getRevisionNumber)
+                            .orElse(null);
+            if (latestRevision == null) {
+                return PageResponse.of(List.of(), page, size, 0);
+            }
+
+            HistoryPage historyPage =
+                    facilityHistoryCache.get(
+                            facilityId, latestRevision, page, size, () -> loadHistoryPage(facilityId, page, size));
+
+            List<Long> fileIds = new ArrayList<>();
+            for (Snapshot snapshot : historyPage.snapshots()) {
+                fileIds.add(snapshot.drawingFileId());
+                fileIds.add(snapshot.thumbnailFileId());
+            }
+            Map<Long, FileResponse> fileResponses = fileService.getFileResponses(fileIds);
+
+            List<FacilityHistoryResponse> content =
+                    historyPage.snapshots().stream()
+                            .map(
+                                    snapshot ->
+                                            new FacilityHistoryResponse(
+                                                    facilityId,
+                                                    snapshot.facilityType(),
+                                                    snapshot.code(),
+                                                    snapshot.name(),
+                                                    snapshot.description(),
+                                                    fileResponseOf(fileResponses, snapshot.drawingFileId()),
+                                                    fileResponseOf(fileResponses, snapshot.thumbnailFileId()),
+                                                    snapshot.changedAt(),
+                                                    snapshot.revisionType()))
+                            .toList();
+
+            return PageResponse.of(content, page, size, historyPage.totalElements());
         } catch (Exception e) {
             log.error("Failed to fetch facility history: {}", e.getMessage());
             throw new CustomException(
@@ -202,6 +276,57 @@ public class FacilityService {
         }
     }
 
+    private HistoryPage loadHistoryPage(Long facilityId, int page, int size) {
+        // Spring Data Envers를 이용한 이력 조회 (최신 리비전부터)
+        Page<Revision<Integer, Facility>> revisions =
+                facilityRevisionRepository.findRevisions(
+                        facilityId, PageRequest.of(page, size, RevisionSort.desc()));
+
+        List<Snapshot> snapshots =
+                revisions.getContent().stream()
+                        .map(
+                                revision -> {
+                                    Facility facility = revision.getEntity();
+                                    // getMetadata()로 RevisionMetadata 객체 접근
+                                    Date revisionDate =
+                                            revision
+                                                    .getMetadata()
+                                                    .getRevisionInstant()
+                                                    .map(instant -> new Date(instant.toEpochMilli()))
+                                                    .orElse(new Date());
+
+                                    return new Snapshot(
+                                            facility.getClass().getSimpleName(),
+                                            facility.getCode(),
+                                            facility.getName(),
+                                            facility.getDescription(),
+                                            facility.getDrawingFileId(),
+                                            facility.getThumbnailFileId(),
+                                            revisionDate,
+                                            revision.getMetadata().getRevisionType().name());
+                                })
+                        .toList();
+
+        return new HistoryPage(snapshots, revisions.getTotalElements());
+    }
+
+    private FileResponse fileResponseOf(Map<Long, FileResponse> fileResponses, Long fileId) {
+        if (fileId == null) {
+            return FileResponse.empty();
+        }
+        return fileResponses.getOrDefault(fileId, FileResponse.empty());
+    }
+
+    /** 시설 목록의 도면/썸네일 파일을 한 번의 IN 쿼리로 조회합니다. */
+    public Map<Long, FileResponse> getFileResponses(List<? extends Facility> facilities) {
+        List<Long> fileIds = new ArrayList<>();
+        for (Facility facility : facilities) {
+            fileIds.add(facility.getDrawingFileId());
+            fileIds.add(facility.getThumbnailFileId());
+        }
+        return fileService.getFileResponses(fileIds);
+    }
+
     public FileResponse getDrawingFileResponse(Facility facility) {
         if (facility.getDrawingFileId() == null) {
             return FileResponse.empty();
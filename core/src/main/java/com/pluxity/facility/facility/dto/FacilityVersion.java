@@ -0,0 +1,34 @@
+package com.pluxity.facility.facility.dto;
+
+import com.pluxity.global.utils.ETagUtils;
+import java.time.LocalDateTime;
+
+/**
+ * 시설 상세 응답의 버전 스냅샷. 층(Floor)은 수정 시 삭제 후 재생성되므로 건수와 최대 ID로, 나머지 하위 요소는 건수와 최종 수정 시각으로
+ * 변경을 감지합니다. 도면/썸네일 파일은 비동기 영구 저장이 끝나면 상태가 바뀌므로 파일의 최종 수정 시각도 포함합니다.
+ */
+public record FacilityVersion(
+        LocalDateTime updatedAt,
+        Long floorCount,
+        Long lastFloorId,
+        Long featureCount,
+        LocalDateTime featuresUpdatedAt,
+        Long lineCount,
+        LocalDateTime linesUpdatedAt,
+        LocalDateTime locationUpdatedAt,
+        LocalDateTime filesUpdatedAt) {
+
+    public String toETag(Long facilityId) {
+        return ETagUtils.weak(
+                "facility-" + facilityId,
+                updatedAt,
+                floorCount,
+                lastFloorId,
+                featureCount,
+                featuresUpdatedAt,
+                lineCount,
+                linesUpdatedAt,
+                locationUpdatedAt,
+                filesUpdatedAt);
+    }
+}
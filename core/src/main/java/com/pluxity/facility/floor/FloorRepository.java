@@ -1,6 +1,8 @@
 package com.pluxity.facility.floor;
 
 import com.pluxity.facility.facility.Facility;
+import com.pluxity.facility.floor.dto.FacilityFloor;
+import java.util.Collection;
 import java.util.List;
 import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +19,15 @@ public interface FloorRepository extends JpaRepository<Floor, Long> {
     @Query("SELECT f FROM Floor f WHERE f.facility IN :facilities")
     <T extends Facility> List<Floor> findAllByFacilities(List<T> facilities);
 
+    @Query(
+            """
+            SELECT new com.pluxity.facility.floor.dto.FacilityFloor(f.facility.id, f.floorId, f.name)
+            FROM Floor f
+            WHERE f.facility.id IN :facilityIds
+            ORDER BY f.id
+            """)
+    List<FacilityFloor> findAllByFacilityIdIn(Collection<Long> facilityIds);
+
     @Modifying
     @Query("DELETE FROM Floor f WHERE f.facility = :facility")
     void deleteByFacility(Facility facility);
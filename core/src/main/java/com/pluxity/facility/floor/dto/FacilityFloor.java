@@ -0,0 +1,8 @@
+package com.pluxity.facility.floor.dto;
+
+public record FacilityFloor(Long facilityId, String floorId, String name) {
+
+    public FloorResponse toResponse() {
+        return new FloorResponse(name, floorId);
+    }
+}
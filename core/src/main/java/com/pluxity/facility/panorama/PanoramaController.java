@@ -18,6 +18,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 // @RestController
 // @RequestMapping("/panoramas")
@@ -76,6 +77,7 @@ public class PanoramaController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "파노라마 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "404",
                         description = "파노라마를 찾을 수 없음",
@@ -93,7 +95,11 @@ public class PanoramaController {
             })
     @GetMapping("/{id}")
     public ResponseEntity<DataResponseBody<PanoramaResponse>> getPanorama(
-            @Parameter(description = "파노라마 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "파노라마 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(service.getETag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(DataResponseBody.of(service.findById(id)));
     }
 
@@ -8,8 +8,10 @@ import com.pluxity.facility.panorama.dto.PanoramaCreateRequest;
 import com.pluxity.facility.panorama.dto.PanoramaResponse;
 import com.pluxity.facility.panorama.dto.PanoramaUpdateRequest;
 import com.pluxity.facility.strategy.LocationStrategy;
+import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +49,7 @@ public class PanoramaService {
     @Transactional(readOnly = true)
     public List<PanoramaResponse> findAll() {
         List<Panorama> panoramas = repository.findAll();
+        Map<Long, FileResponse> fileResponses = facilityService.getFileResponses(panoramas);
 
         return panoramas.stream()
                 .map(
@@ -55,16 +58,21 @@ public class PanoramaService {
                                         .facility(
                                                 FacilityResponse.from(
                                                         panorama,
-                                                        fileService.getFileResponse(panorama.getDrawingFileId()),
-                                                        fileService.getFileResponse(panorama.getThumbnailFileId())))
+                                                        fileResponses.get(panorama.getDrawingFileId()),
+                                                        fileResponses.get(panorama.getThumbnailFileId())))
                                         .location(LocationResponse.from(panorama))
                                         .build())
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public String getETag(Long id) {
+        return facilityService.getETag(id);
+    }
+
     @Transactional(readOnly = true)
     public PanoramaResponse findById(Long id) {
-        Panorama panorama = (Panorama) facilityService.findById(id);
+        Panorama panorama = facilityService.findById(id, Panorama.class);
 
         return PanoramaResponse.builder()
                 .facility(
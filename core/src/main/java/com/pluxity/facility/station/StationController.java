@@ -8,6 +8,7 @@ import com.pluxity.facility.station.dto.StationUpdateRequest;
 import com.pluxity.global.annotation.ResponseCreated;
 import com.pluxity.global.response.DataResponseBody;
 import com.pluxity.global.response.ErrorResponseBody;
+import com.pluxity.global.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,10 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 // @RestController
 // @RequestMapping("/stations")
@@ -80,6 +84,7 @@ public class StationController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "스테이션 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "404",
                         description = "스테이션을 찾을 수 없음",
@@ -97,11 +102,15 @@ public class StationController {
             })
     @GetMapping("/{id}")
     public ResponseEntity<DataResponseBody<StationResponse>> get(
-            @Parameter(description = "스테이션 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "스테이션 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(service.getETag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(DataResponseBody.of(service.findById(id)));
     }
 
-    @Operation(summary = "특정 스테이션 이력 조회", description = "특정 ID를 가진 스테이션의 이력 목록을 조회합니다.")
+    @Operation(summary = "특정 스테이션 이력 조회", description = "특정 ID를 가진 스테이션의 이력을 최신순으로 페이지 단위 조회합니다.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -127,9 +136,13 @@ public class StationController {
                                         schema = @Schema(implementation = ErrorResponseBody.class)))
             })
     @GetMapping("/{id}/history")
-    public ResponseEntity<DataResponseBody<List<FacilityHistoryResponse>>> getStationHistoryById(
-            @PathVariable Long id) {
-        return ResponseEntity.ok(DataResponseBody.of(service.findFacilityHistories(id)));
+    public ResponseEntity<DataResponseBody<PageResponse<FacilityHistoryResponse>>> getStationHistoryById(
+            @PathVariable Long id,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") @Min(0)
+                    int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(100)
+                    int size) {
+        return ResponseEntity.ok(DataResponseBody.of(service.findFacilityHistories(id, page, size)));
     }
 
     @Operation(summary = "스테이션 수정", description = "기존 스테이션의 정보를 수정합니다")
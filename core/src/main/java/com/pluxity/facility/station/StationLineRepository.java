@@ -1,7 +1,21 @@
 package com.pluxity.facility.station;
 
+import com.pluxity.facility.station.dto.StationLineLink;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StationLineRepository extends JpaRepository<StationLine, Long> {}
+public interface StationLineRepository extends JpaRepository<StationLine, Long> {
+
+    @Query(
+            """
+            SELECT new com.pluxity.facility.station.dto.StationLineLink(sl.station.id, sl.line.id)
+            FROM StationLine sl
+            WHERE sl.station.id IN :stationIds
+            ORDER BY sl.id
+            """)
+    List<StationLineLink> findLinksByStationIdIn(Collection<Long> stationIds);
+}
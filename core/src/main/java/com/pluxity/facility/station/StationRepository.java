@@ -1,10 +1,23 @@
 package com.pluxity.facility.station;
 
+import com.pluxity.facility.station.dto.StationSummary;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StationRepository extends JpaRepository<Station, Long> {
     Optional<Station> findByCode(String stationCode);
+
+    @Query(
+            """
+            SELECT new com.pluxity.facility.station.dto.StationSummary(
+                s.id, s.code, s.name, s.description, s.drawingFileId, s.thumbnailFileId,
+                s.route, s.subway, s.createdAt, s.createdBy, s.updatedAt, s.updatedBy)
+            FROM Station s
+            ORDER BY s.id
+            """)
+    List<StationSummary> findAllSummaries();
 }
@@ -1,5 +1,6 @@
 package com.pluxity.facility.station;
 
+import com.pluxity.device.repository.DeviceRepository;
 import com.pluxity.facility.facility.Facility;
 import com.pluxity.facility.facility.FacilityService;
 import com.pluxity.facility.facility.dto.FacilityHistoryResponse;
@@ -10,16 +11,27 @@ import com.pluxity.facility.floor.dto.FloorResponse;
 import com.pluxity.facility.line.Line;
 import com.pluxity.facility.line.LineService;
 import com.pluxity.facility.station.dto.StationCreateRequest;
+import com.pluxity.facility.station.dto.StationLineLink;
 import com.pluxity.facility.station.dto.StationResponse;
 import com.pluxity.facility.station.dto.StationResponseWithFeature;
+import com.pluxity.facility.station.dto.StationSummary;
 import com.pluxity.facility.station.dto.StationUpdateRequest;
 import com.pluxity.facility.strategy.FloorStrategy;
+import com.pluxity.feature.dto.FacilityFeatureId;
 import com.pluxity.feature.dto.FeatureResponseWithoutAsset;
+import com.pluxity.feature.dto.FeatureSceneRow;
 import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
-import com.pluxity.label3d.Label3DRepository;
+import com.pluxity.global.response.PageResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -30,12 +42,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StationService {
 
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
+
     private final FileService fileService;
     private final FacilityService facilityService;
     private final FloorStrategy floorStrategy;
     private final StationRepository stationRepository;
+    private final StationLineRepository stationLineRepository;
+    private final FeatureRepository featureRepository;
     private final LineService lineService;
-    private final Label3DRepository label3DRepository;
+    private final DeviceRepository deviceRepository;
 
     @Transactional
     public Long save(StationCreateRequest request) {
@@ -66,37 +82,65 @@ public class StationService {
 
     @Transactional(readOnly = true)
     public List<StationResponse> findAll() {
-        return stationRepository.findAll().stream()
+        return getStationResponses(stationRepository.findAllSummaries());
+    }
+
+    /**
+     * 역 목록의 층, 노선, 피처 ID, 파일을 각각 한 번의 쿼리로 읽어 조립합니다. 역 개수와 무관하게 쿼리 수가 고정됩니다.
+     */
+    private List<StationResponse> getStationResponses(List<StationSummary> stations) {
+        if (stations.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> stationIds = new ArrayList<>(stations.size());
+        List<Long> fileIds = new ArrayList<>(stations.size() * 2);
+        for (StationSummary station : stations) {
+            stationIds.add(station.id());
+            fileIds.add(station.drawingFileId());
+            fileIds.add(station.thumbnailFileId());
+        }
+
+        Map<Long, List<FloorResponse>> floors = floorStrategy.findAllByFacilityIds(stationIds);
+        Map<Long, List<Long>> lineIds =
+                stationLineRepository.findLinksByStationIdIn(stationIds).stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        StationLineLink::stationId,
+                                        Collectors.mapping(StationLineLink::lineId, Collectors.toList())));
+        Map<Long, List<String>> featureIds =
+                featureRepository.findIdsByFacilityIdIn(stationIds).stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        FacilityFeatureId::facilityId,
+                                        Collectors.mapping(FacilityFeatureId::featureId, Collectors.toList())));
+        Map<Long, FileResponse> fileResponses = fileService.getFileResponses(fileIds);
+
+        return stations.stream()
                 .map(
-                        station -> {
-                            List<Long> lineIds =
-                                    station.getStationLines().stream()
-                                            .map(stationLine -> stationLine.getLine().getId())
-                                            .collect(Collectors.toList());
-
-                            List<FloorResponse> floorResponse = floorStrategy.findAllByFacility(station);
-                            List<String> featureIds = station.getFeatures().stream().map(Feature::getId).toList();
-                            FacilityResponseWithFeature.getFeatureResponses(station);
-
-                            return StationResponse.builder()
-                                    .facility(
-                                            FacilityResponse.from(
-                                                    station,
-                                                    fileService.getFileResponse(station.getDrawingFileId()),
-                                                    fileService.getFileResponse(station.getThumbnailFileId())))
-                                    .floors(floorResponse)
-                                    .lineIds(lineIds)
-                                    .featureIds(featureIds)
-                                    .route(station.getRoute())
-                                    .subway(station.getSubway())
-                                    .build();
-                        })
+                        station ->
+                                StationResponse.builder()
+                                        .facility(
+                                                station.toFacilityResponse(
+                                                        fileResponses.get(station.drawingFileId()),
+                                                        fileResponses.get(station.thumbnailFileId())))
+                                        .floors(floors.get(station.id()))
+                                        .lineIds(lineIds.get(station.id()))
+                                        .featureIds(featureIds.get(station.id()))
+                                        .route(station.route())
+                                        .subway(station.subway())
+                                        .build())
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public String getETag(Long id) {
+        return facilityService.getETag(id);
+    }
+
     @Transactional(readOnly = true)
     public StationResponse findById(Long id) {
-        Station station = (Station) facilityService.findById(id);
+        Station station = facilityService.findById(id, Station.class);
         List<FloorResponse> floorResponse = floorStrategy.findAllByFacility(station);
         List<String> featureIds = station.getFeatures().stream().map(Feature::getId).toList();
 
@@ -129,8 +173,8 @@ public class StationService {
     }
 
     @Transactional(readOnly = true)
-    public List<FacilityHistoryResponse> findFacilityHistories(Long id) {
-        return facilityService.findFacilityHistories(id);
+    public PageResponse<FacilityHistoryResponse> findFacilityHistories(Long id, int page, int size) {
+        return facilityService.findFacilityHistories(id, page, size);
     }
 
     @Transactional
@@ -188,36 +232,56 @@ public class StationService {
         station.removeLine(line);
     }
 
+    /**
+     * 뷰어 씬 조회. 피처는 라벨3D를 제외하는 단일 프로젝션 쿼리로 읽고, 층/노선/파일/디바이스 이름은 일괄 조회합니다. 피처 수에
+     * 선형으로 비례합니다.
+     */
     @Transactional(readOnly = true)
     public StationResponseWithFeature findStationWithFeatures(Long id) {
         Station station = findStationById(id);
-        List<FloorResponse> floorResponse = floorStrategy.findAllByFacility(station);
+        List<Long> stationIds = List.of(id);
 
         List<Long> lineIds =
-                station.getStationLines().stream()
-                        .map(stationLine -> stationLine.getLine().getId())
-                        .collect(Collectors.toList());
+                stationLineRepository.findLinksByStationIdIn(stationIds).stream()
+                        .map(StationLineLink::lineId)
+                        .toList();
 
+        Map<Long, FileResponse> fileResponses =
+                fileService.getFileResponses(
+                        Arrays.asList(station.getDrawingFileId(), station.getThumbnailFileId()));
         FacilityResponseWithFeature facilityResponse =
                 FacilityResponseWithFeature.from(
                         station,
-                        fileService.getFileResponse(station.getDrawingFileId()),
-                        fileService.getFileResponse(station.getThumbnailFileId()));
-
-        List<String> label3DFeatureIds =
-                label3DRepository.findAllByFacilityId(id.toString()).stream()
-                        .map(label3D -> label3D.getFeature().getId())
-                        .collect(Collectors.toList());
-
-        List<FeatureResponseWithoutAsset> features =
-                FacilityResponseWithFeature.getFeatureResponsesExcludingLabel3D(station, label3DFeatureIds);
+                        fileResponses.get(station.getDrawingFileId()),
+                        fileResponses.get(station.getThumbnailFileId()));
+
+        List<FeatureSceneRow> rows = featureRepository.findSceneRowsExcludingLabel3D(id);
+        Map<String, String> deviceNames = getDeviceNames(rows);
+        List<FeatureResponseWithoutAsset> features = new ArrayList<>(rows.size());
+        for (FeatureSceneRow row : rows) {
+            features.add(row.toResponse(deviceNames.get(row.deviceId())));
+        }
 
         return StationResponseWithFeature.builder()
                 .facility(facilityResponse)
-                .floors(floorResponse)
+                .floors(floorStrategy.findAllByFacilityIds(stationIds).get(id))
                 .lineIds(lineIds)
                 .features(features)
                 .route(station.getRoute())
                 .build();
     }
+
+    /** 디바이스 이름은 하위 타입 컬럼이라 프로젝션으로 읽을 수 없어 ID 청크 단위로 일괄 조회합니다. */
+    private Map<String, String> getDeviceNames(List<FeatureSceneRow> rows) {
+        List<String> deviceIds =
+                rows.stream().map(FeatureSceneRow::deviceId).filter(Objects::nonNull).toList();
+        Map<String, String> deviceNames = new HashMap<>(deviceIds.size() * 2);
+        for (int from = 0; from < deviceIds.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<String> chunk = deviceIds.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, deviceIds.size()));
+            deviceRepository
+                    .findAllById(chunk)
+                    .forEach(device -> deviceNames.put(device.getId(), device.getName()));
+        }
+        return deviceNames;
+    }
 }
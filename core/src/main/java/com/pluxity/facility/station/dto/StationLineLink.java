@@ -0,0 +1,3 @@
+package com.pluxity.facility.station.dto;
+
+public record StationLineLink(Long stationId, Long lineId) {}
@@ -0,0 +1,34 @@
+package com.pluxity.facility.station.dto;
+
+import com.pluxity.facility.facility.dto.FacilityResponse;
+import com.pluxity.file.dto.FileResponse;
+import com.pluxity.global.response.BaseResponse;
+import java.time.LocalDateTime;
+
+/** 역 목록 조회용 프로젝션. 엔티티와 연관관계를 초기화하지 않고 필요한 컬럼만 읽습니다. */
+public record StationSummary(
+        Long id,
+        String code,
+        String name,
+        String description,
+        Long drawingFileId,
+        Long thumbnailFileId,
+        String route,
+        String subway,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        String updatedBy) {
+
+    public FacilityResponse toFacilityResponse(FileResponse drawing, FileResponse thumbnail) {
+        return new FacilityResponse(
+                id,
+                code,
+                name,
+                description,
+                drawing != null ? drawing : FileResponse.empty(),
+                thumbnail != null ? thumbnail : FileResponse.empty(),
+                new BaseResponse(
+                        createdAt.toString(), createdBy, updatedAt.toString(), updatedBy));
+    }
+}
@@ -3,8 +3,10 @@ package com.pluxity.facility.strategy;
 import com.pluxity.facility.facility.Facility;
 import com.pluxity.facility.floor.Floor;
 import com.pluxity.facility.floor.FloorRepository;
+import com.pluxity.facility.floor.dto.FacilityFloor;
 import com.pluxity.facility.floor.dto.FloorRequest;
 import com.pluxity.facility.floor.dto.FloorResponse;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,6 +39,18 @@ public class FloorStrategy implements FacilityStrategy<FloorRequest, FloorRespon
                 .collect(Collectors.groupingBy(Floor::getFacility));
     }
 
+    /** 시설 ID 목록의 층 정보를 한 번의 쿼리로 조회해 시설 ID별로 묶습니다. */
+    public Map<Long, List<FloorResponse>> findAllByFacilityIds(Collection<Long> facilityIds) {
+        if (facilityIds.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findAllByFacilityIdIn(facilityIds).stream()
+                .collect(
+                        Collectors.groupingBy(
+                                FacilityFloor::facilityId,
+                                Collectors.mapping(FacilityFloor::toResponse, Collectors.toList())));
+    }
+
     @Override
     public <T extends Facility> void update(T facility, FloorRequest data) {}
 
@@ -1,8 +1,13 @@
 package com.pluxity.feature.controller;
 
 import com.pluxity.feature.dto.FeatureAssignDto;
+import com.pluxity.feature.dto.FeatureBulkRequest;
+import com.pluxity.feature.dto.FeatureBulkResponse;
 import com.pluxity.feature.dto.FeatureCreateRequest;
+import com.pluxity.feature.dto.FeatureDistanceResponse;
 import com.pluxity.feature.dto.FeatureResponse;
+import com.pluxity.feature.dto.FeatureSearchCondition;
+import com.pluxity.feature.dto.FeatureSliceResponse;
 import com.pluxity.feature.dto.FeatureUpdateRequest;
 import com.pluxity.feature.service.FeatureService;
 import com.pluxity.global.response.ErrorResponseBody;
@@ -14,12 +19,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/features")
@@ -57,10 +69,40 @@ public class FeatureController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "피처 대량 생성/수정",
+            description = "여러 피처를 한 번에 생성하거나 수정합니다. 항목별 처리 결과(CREATED/UPDATED/FAILED)를 반환합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "대량 처리 완료"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "잘못된 요청",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @PostMapping("/bulk")
+    public ResponseEntity<FeatureBulkResponse> upsertFeatures(
+            @Parameter(description = "피처 대량 등록 정보", required = true) @Valid @RequestBody
+                    FeatureBulkRequest request) {
+        FeatureBulkResponse response = featureService.upsertFeatures(request);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "피처 목록 조회", description = "모든 피처 목록을 조회합니다")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "목록 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "500",
                         description = "서버 오류",
@@ -70,15 +112,57 @@ public class FeatureController {
                                         schema = @Schema(implementation = ErrorResponseBody.class)))
             })
     @GetMapping
-    public ResponseEntity<List<FeatureResponse>> getFeatures() {
+    public ResponseEntity<List<FeatureResponse>> getFeatures(WebRequest webRequest) {
+        if (webRequest.checkNotModified(featureService.getFeaturesETag())) {
+            return null;
+        }
         List<FeatureResponse> responses = featureService.getFeatures();
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "피처 목록 스트리밍 조회",
+            description = "Accept: application/x-ndjson 요청 시 모든 피처를 한 줄에 하나씩 스트리밍합니다")
+    @ApiResponse(responseCode = "200", description = "스트리밍 시작")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportFeatures() {
+        StreamingResponseBody body = featureService::exportFeatures;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(
+            summary = "피처 범위 조회",
+            description = "시설/층과 좌표 경계 상자로 피처를 조회합니다. cursor에 이전 응답의 nextCursor를 전달해 다음 페이지를 조회합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "조회 성공"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "잘못된 요청",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "서버 오류",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @GetMapping("/search")
+    public ResponseEntity<FeatureSliceResponse> searchFeatures(
+            @ParameterObject @Valid @ModelAttribute FeatureSearchCondition condition) {
+        FeatureSliceResponse response = featureService.searchFeatures(condition);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "피처 상세 조회", description = "ID로 특정 피처의 상세 정보를 조회합니다")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "피처 조회 성공"),
+                @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                 @ApiResponse(
                         responseCode = "404",
                         description = "피처를 찾을 수 없음",
@@ -96,11 +180,69 @@ public class FeatureController {
             })
     @GetMapping("/{id}")
     public ResponseEntity<FeatureResponse> getFeature(
-            @Parameter(description = "피처 ID", required = true) @PathVariable String id) {
+            @Parameter(description = "피처 ID", required = true) @PathVariable String id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(featureService.getFeatureETag(id))) {
+            return null;
+        }
         FeatureResponse response = featureService.getFeature(id);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "반경 내 피처 조회", description = "같은 시설/층에서 기준 피처로부터 반경(m) 이내의 피처를 거리순으로 조회합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "조회 성공"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "잘못된 조회 조건",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "피처를 찾을 수 없음",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @GetMapping("/{id}/nearby")
+    public ResponseEntity<List<FeatureDistanceResponse>> getFeaturesWithinRadius(
+            @Parameter(description = "피처 ID", required = true) @PathVariable String id,
+            @Parameter(description = "반경", required = true) @RequestParam @DecimalMin("0.0")
+                    double radius) {
+        return ResponseEntity.ok(featureService.findFeaturesWithinRadius(id, radius));
+    }
+
+    @Operation(summary = "최근접 피처 조회", description = "같은 시설/층에서 기준 피처와 가장 가까운 k개의 피처를 거리순으로 조회합니다")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "조회 성공"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "잘못된 조회 조건",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "피처를 찾을 수 없음",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponseBody.class)))
+            })
+    @GetMapping("/{id}/nearest")
+    public ResponseEntity<List<FeatureDistanceResponse>> getNearestFeatures(
+            @Parameter(description = "피처 ID", required = true) @PathVariable String id,
+            @Parameter(description = "조회 개수 (1~1000)") @RequestParam(defaultValue = "10") @Min(1) @Max(1000)
+                    int k) {
+        return ResponseEntity.ok(featureService.findNearestFeatures(id, k));
+    }
+
     @Operation(summary = "피처 정보 수정", description = "ID로 피처 정보를 수정합니다")
     @ApiResponses(
             value = {
@@ -0,0 +1,3 @@
+package com.pluxity.feature.dto;
+
+public record FacilityFeatureId(Long facilityId, String featureId) {}
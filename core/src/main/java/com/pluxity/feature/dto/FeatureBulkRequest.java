@@ -0,0 +1,12 @@
+package com.pluxity.feature.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record FeatureBulkRequest(
+        @NotEmpty @Size(max = FeatureBulkRequest.MAX_SIZE) List<@Valid FeatureCreateRequest> features) {
+
+    public static final int MAX_SIZE = 20000;
+}
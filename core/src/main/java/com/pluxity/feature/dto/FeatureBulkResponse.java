@@ -0,0 +1,21 @@
+package com.pluxity.feature.dto;
+
+import java.util.List;
+
+public record FeatureBulkResponse(
+        int created, int updated, int failed, List<FeatureBulkResult> results) {
+
+    public static FeatureBulkResponse from(List<FeatureBulkResult> results) {
+        int created = 0;
+        int updated = 0;
+        int failed = 0;
+        for (FeatureBulkResult result : results) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case FAILED -> failed++;
+            }
+        }
+        return new FeatureBulkResponse(created, updated, failed, results);
+    }
+}
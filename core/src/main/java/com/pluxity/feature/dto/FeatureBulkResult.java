@@ -0,0 +1,25 @@
+package com.pluxity.feature.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FeatureBulkResult(String id, Status status, String message) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    public static FeatureBulkResult created(String id) {
+        return new FeatureBulkResult(id, Status.CREATED, null);
+    }
+
+    public static FeatureBulkResult updated(String id) {
+        return new FeatureBulkResult(id, Status.UPDATED, null);
+    }
+
+    public static FeatureBulkResult failed(String id, String message) {
+        return new FeatureBulkResult(id, Status.FAILED, message);
+    }
+}
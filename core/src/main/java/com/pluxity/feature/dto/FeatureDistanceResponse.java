@@ -0,0 +1,10 @@
+package com.pluxity.feature.dto;
+
+import com.pluxity.feature.spatial.Octree;
+
+public record FeatureDistanceResponse(String id, double distance) {
+
+    public static FeatureDistanceResponse from(Octree.Neighbor neighbor) {
+        return new FeatureDistanceResponse(neighbor.id(), neighbor.distance());
+    }
+}
@@ -0,0 +1,8 @@
+package com.pluxity.feature.dto;
+
+public record FeaturePosition(String id, Double x, Double y, Double z) {
+
+    public boolean hasPosition() {
+        return x != null && y != null && z != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pluxity.feature.dto;
+
+import com.pluxity.feature.entity.Spatial;
+
+/** 씬 조회용 피처 프로젝션. 디바이스 이름은 하위 타입에 있으므로 ID만 담습니다. */
+public record FeatureSceneRow(
+        String id,
+        Spatial position,
+        Spatial rotation,
+        Spatial scale,
+        Long assetId,
+        String floorId,
+        String deviceId) {
+
+    public FeatureResponseWithoutAsset toResponse(String deviceName) {
+        return new FeatureResponseWithoutAsset(
+                id, position, rotation, scale, assetId, floorId, deviceId, deviceName);
+    }
+}
@@ -0,0 +1,65 @@
+package com.pluxity.feature.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/** 시설/층 단위 피처 조회 조건. 좌표 범위는 축 정렬 경계 상자(AABB)이며 비어 있는 경계는 무한대로 취급합니다. */
+public record FeatureSearchCondition(
+        @NotNull Long facilityId,
+        @NotBlank String floorId,
+        Double minX,
+        Double maxX,
+        Double minY,
+        Double maxY,
+        Double minZ,
+        Double maxZ,
+        String cursor,
+        Integer size) {
+
+    public static final int DEFAULT_SIZE = 500;
+    public static final int MAX_SIZE = 2000;
+
+    public boolean hasBounds() {
+        return minX != null
+                || maxX != null
+                || minY != null
+                || maxY != null
+                || minZ != null
+                || maxZ != null;
+    }
+
+    public double lowerX() {
+        return minX != null ? minX : -Double.MAX_VALUE;
+    }
+
+    public double upperX() {
+        return maxX != null ? maxX : Double.MAX_VALUE;
+    }
+
+    public double lowerY() {
+        return minY != null ? minY : -Double.MAX_VALUE;
+    }
+
+    public double upperY() {
+        return maxY != null ? maxY : Double.MAX_VALUE;
+    }
+
+    public double lowerZ() {
+        return minZ != null ? minZ : -Double.MAX_VALUE;
+    }
+
+    public double upperZ() {
+        return maxZ != null ? maxZ : Double.MAX_VALUE;
+    }
+
+    public String afterId() {
+        return cursor != null ? cursor : "";
+    }
+
+    public int pageSize() {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
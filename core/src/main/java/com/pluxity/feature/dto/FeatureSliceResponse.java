@@ -0,0 +1,12 @@
+package com.pluxity.feature.dto;
+
+import java.util.List;
+
+public record FeatureSliceResponse(
+        List<FeatureResponse> features, String nextCursor, boolean hasNext) {
+
+    public static FeatureSliceResponse of(List<FeatureResponse> features, boolean hasNext) {
+        String nextCursor = hasNext && !features.isEmpty() ? features.getLast().id() : null;
+        return new FeatureSliceResponse(features, nextCursor, hasNext);
+    }
+}
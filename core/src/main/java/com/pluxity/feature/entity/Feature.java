@@ -16,7 +16,14 @@ import org.hibernate.annotations.NotFoundAction;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "feature")
+@Table(
+        name = "feature",
+        indexes = {
+            @Index(name = "idx_feature_facility_floor", columnList = "facility_id, floor_id, id"),
+            @Index(
+                    name = "idx_feature_facility_floor_position",
+                    columnList = "facility_id, floor_id, position_x, position_y, position_z")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -172,6 +179,11 @@ public class Feature extends BaseEntity {
         this.device = null;
     }
 
+    /** 에셋 관계만 단방향으로 설정하는 메서드 (대량 처리 시 에셋의 피처 컬렉션 로딩을 피하기 위해 사용) */
+    public void assignAssetOnly(Asset asset) {
+        this.asset = asset;
+    }
+
     /** 에셋 관계만 단방향으로 제거하는 메서드 (에셋에서 피처 제거 시 사용) */
     public void clearAssetOnly() {
         this.asset = null;
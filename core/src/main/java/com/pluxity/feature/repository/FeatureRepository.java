@@ -1,8 +1,138 @@
 package com.pluxity.feature.repository;
 
+import com.pluxity.feature.dto.FacilityFeatureId;
+import com.pluxity.feature.dto.FeaturePosition;
+import com.pluxity.feature.dto.FeatureSceneRow;
 import com.pluxity.feature.entity.Feature;
+import com.pluxity.global.entity.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface FeatureRepository extends JpaRepository<Feature, String> {}
+public interface FeatureRepository extends JpaRepository<Feature, String> {
+
+    @Query(
+            """
+            SELECT f FROM Feature f
+            WHERE f.facility.id = :facilityId
+              AND f.floorId = :floorId
+              AND f.id > :afterId
+            ORDER BY f.id ASC
+            """)
+    List<Feature> findPage(Long facilityId, String floorId, String afterId, Limit limit);
+
+    @Query(
+            """
+            SELECT f FROM Feature f
+            WHERE f.facility.id = :facilityId
+              AND f.floorId = :floorId
+              AND f.position.x BETWEEN :minX AND :maxX
+              AND f.position.y BETWEEN :minY AND :maxY
+              AND f.position.z BETWEEN :minZ AND :maxZ
+              AND f.id > :afterId
+            ORDER BY f.id ASC
+            """)
+    List<Feature> findPageInBounds(
+            Long facilityId,
+            String floorId,
+            double minX,
+            double maxX,
+            double minY,
+            double maxY,
+            double minZ,
+            double maxZ,
+            String afterId,
+            Limit limit);
+
+    @Query(
+            """
+            SELECT new com.pluxity.feature.dto.FeaturePosition(
+                f.id, f.position.x, f.position.y, f.position.z)
+            FROM Feature f
+            WHERE f.facility.id = :facilityId
+              AND f.floorId = :floorId
+            """)
+    List<FeaturePosition> findPositions(Long facilityId, String floorId);
+
+    @Query(
+            """
+            SELECT new com.pluxity.feature.dto.FacilityFeatureId(f.facility.id, f.id)
+            FROM Feature f
+            WHERE f.facility.id IN :facilityIds
+            ORDER BY f.id
+            """)
+    List<FacilityFeatureId> findIdsByFacilityIdIn(Collection<Long> facilityIds);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            """
+            SELECT new com.pluxity.feature.dto.FeatureSceneRow(
+                f.id, f.position, f.rotation, f.scale, f.asset.id, f.floorId, d.id)
+            FROM Feature f
+            LEFT JOIN f.device d
+            WHERE f.facility.id = :facilityId
+              AND NOT EXISTS (SELECT 1 FROM Label3D l WHERE l.id = f.id)
+            ORDER BY f.id
+            """)
+    List<FeatureSceneRow> findSceneRowsExcludingLabel3D(Long facilityId);
+
+    @Query("SELECT f FROM Feature f LEFT JOIN FETCH f.device WHERE f.id IN :ids")
+    List<Feature> findAllWithDeviceByIdIn(Collection<String> ids);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM Feature f LEFT JOIN FETCH f.device")
+    Stream<Feature> streamAll();
+
+    @Query(
+            """
+            SELECT new com.pluxity.global.entity.ResourceVersion(
+                COUNT(f),
+                MAX(GREATEST(f.updatedAt,
+                             COALESCE(a.updatedAt, f.updatedAt),
+                             COALESCE(c.updatedAt, f.updatedAt),
+                             COALESCE(d.updatedAt, f.updatedAt),
+                             COALESCE(af.updatedAt, f.updatedAt),
+                             COALESCE(tf.updatedAt, f.updatedAt))))
+            FROM Feature f
+            LEFT JOIN f.asset a
+            LEFT JOIN a.category c
+            LEFT JOIN f.device d
+            LEFT JOIN FileEntity af ON af.id = a.fileId
+            LEFT JOIN FileEntity tf ON tf.id = a.thumbnailFileId
+            WHERE f.id = :id
+            """)
+    ResourceVersion findVersionById(String id);
+
+    @Query(
+            """
+            SELECT new com.pluxity.global.entity.ResourceVersion(
+                COUNT(f),
+                MAX(GREATEST(f.updatedAt,
+                             COALESCE(a.updatedAt, f.updatedAt),
+                             COALESCE(c.updatedAt, f.updatedAt),
+                             COALESCE(d.updatedAt, f.updatedAt),
+                             COALESCE(af.updatedAt, f.updatedAt),
+                             COALESCE(tf.updatedAt, f.updatedAt))))
+            FROM Feature f
+            LEFT JOIN f.asset a
+            LEFT JOIN a.category c
+            LEFT JOIN f.device d
+            LEFT JOIN FileEntity af ON af.id = a.fileId
+            LEFT JOIN FileEntity tf ON tf.id = a.thumbnailFileId
+            """)
+    ResourceVersion findCollectionVersion();
+}
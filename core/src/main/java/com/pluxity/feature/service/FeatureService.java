@@ -1,5 +1,6 @@
 package com.pluxity.feature.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pluxity.asset.entity.Asset;
 import com.pluxity.asset.repository.AssetRepository;
 import com.pluxity.asset.service.AssetService;
@@ -8,21 +9,42 @@ import com.pluxity.facility.facility.Facility;
 import com.pluxity.facility.facility.FacilityRepository;
 import com.pluxity.facility.facility.FacilityService;
 import com.pluxity.feature.dto.FeatureAssignDto;
+import com.pluxity.feature.dto.FeatureBulkRequest;
+import com.pluxity.feature.dto.FeatureBulkResponse;
+import com.pluxity.feature.dto.FeatureBulkResult;
 import com.pluxity.feature.dto.FeatureCreateRequest;
+import com.pluxity.feature.dto.FeatureDistanceResponse;
 import com.pluxity.feature.dto.FeatureResponse;
+import com.pluxity.feature.dto.FeatureSearchCondition;
+import com.pluxity.feature.dto.FeatureSliceResponse;
 import com.pluxity.feature.dto.FeatureUpdateRequest;
 import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.entity.Spatial;
 import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.feature.spatial.Octree;
 import com.pluxity.file.dto.FileResponse;
 import com.pluxity.file.service.FileService;
+import com.pluxity.global.entity.ResourceVersion;
 import com.pluxity.global.exception.CustomException;
+import com.pluxity.global.response.NdjsonWriter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,12 +54,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class FeatureService {
 
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int MAX_NEAREST_COUNT = 1000;
+    private static final String INVALID_POSITION_MESSAGE =
+            String.format("위치 좌표는 절댓값 %.0e 이하의 유한한 값이어야 합니다", Octree.MAX_COORDINATE);
+
     private final FeatureRepository featureRepository;
     private final AssetRepository assetRepository;
     private final FacilityRepository facilityRepository;
     private final FacilityService facilityService;
     private final AssetService assetService;
     private final FileService fileService;
+    private final FeatureSpatialIndexService featureSpatialIndexService;
+    private final ObjectMapper objectMapper;
     @PersistenceContext private EntityManager entityManager;
 
     @Transactional
@@ -56,6 +86,8 @@ public class FeatureService {
                     "Feature already exists", HttpStatus.CONFLICT, "이미 존재하는 피처 ID입니다: " + featureId);
         }
 
+        validatePosition(request.position());
+
         // 먼저 관련 엔티티 조회
         Facility facility = facilityService.findById(request.facilityId());
         Asset asset = assetService.findById(request.assetId());
@@ -69,6 +101,7 @@ public class FeatureService {
 
         // 저장
         Feature savedFeature = featureRepository.save(feature);
+        featureSpatialIndexService.index(savedFeature);
         log.debug("피처 저장 완료: id={}", savedFeature.getId());
 
         FileResponse assetFileResponse = assetService.getFileResponse(asset);
@@ -84,22 +117,179 @@ public class FeatureService {
                 facilityThumbnailFileResponse);
     }
 
+    /**
+     * 피처를 대량으로 생성/수정합니다. 참조 시설과 에셋은 각각 한 번의 IN 쿼리로 검증하고, 피처는 청크 단위로 persist 후 flush/clear
+     * 하여 JDBC 배치로 기록합니다. 기존 피처는 위치/회전/크기와 에셋만 갱신합니다.
+     */
+    @Transactional
+    public FeatureBulkResponse upsertFeatures(FeatureBulkRequest request) {
+        List<FeatureCreateRequest> items = request.features();
+        log.debug("피처 대량 등록 요청: count={}", items.size());
+
+        Map<Long, Facility> facilities =
+                facilityRepository
+                        .findAllById(items.stream().map(FeatureCreateRequest::facilityId).distinct().toList())
+                        .stream()
+                        .collect(Collectors.toMap(Facility::getId, Function.identity()));
+        Map<Long, Asset> assets =
+                assetRepository
+                        .findAllById(items.stream().map(FeatureCreateRequest::assetId).distinct().toList())
+                        .stream()
+                        .collect(Collectors.toMap(Asset::getId, Function.identity()));
+
+        List<FeatureBulkResult> results = new ArrayList<>(items.size());
+        Set<String> processedIds = new HashSet<>();
+        for (int from = 0; from < items.size(); from += BULK_CHUNK_SIZE) {
+            List<FeatureCreateRequest> chunk =
+                    items.subList(from, Math.min(from + BULK_CHUNK_SIZE, items.size()));
+            Map<String, Feature> existingFeatures =
+                    featureRepository
+                            .findAllWithDeviceByIdIn(chunk.stream().map(FeatureCreateRequest::id).toList())
+                            .stream()
+                            .collect(Collectors.toMap(Feature::getId, Function.identity()));
+
+            for (FeatureCreateRequest item : chunk) {
+                results.add(upsertFeature(item, existingFeatures, facilities, assets, processedIds));
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        FeatureBulkResponse response = FeatureBulkResponse.from(results);
+        log.debug(
+                "피처 대량 등록 완료: created={}, updated={}, failed={}",
+                response.created(),
+                response.updated(),
+                response.failed());
+        return response;
+    }
+
+    private FeatureBulkResult upsertFeature(
+            FeatureCreateRequest item,
+            Map<String, Feature> existingFeatures,
+            Map<Long, Facility> facilities,
+            Map<Long, Asset> assets,
+            Set<String> processedIds) {
+        String featureId = item.id();
+        if (!processedIds.add(featureId)) {
+            return FeatureBulkResult.failed(featureId, "요청 내에 중복된 피처 ID입니다");
+        }
+
+        Facility facility = facilities.get(item.facilityId());
+        if (facility == null) {
+            return FeatureBulkResult.failed(featureId, "해당 시설을 찾을 수 없습니다: " + item.facilityId());
+        }
+        Asset asset = assets.get(item.assetId());
+        if (asset == null) {
+            return FeatureBulkResult.failed(featureId, "해당 에셋을 찾을 수 없습니다: " + item.assetId());
+        }
+        if (!isValidPosition(item.position())) {
+            return FeatureBulkResult.failed(featureId, INVALID_POSITION_MESSAGE);
+        }
+
+        Feature feature = existingFeatures.get(featureId);
+        if (feature != null) {
+            feature.update(new FeatureUpdateRequest(item.position(), item.rotation(), item.scale()));
+            feature.assignAssetOnly(asset);
+            featureSpatialIndexService.index(feature);
+            return FeatureBulkResult.updated(featureId);
+        }
+
+        feature = Feature.create(item, featureId);
+        feature.changeFacility(facility);
+        feature.assignAssetOnly(asset);
+        entityManager.persist(feature);
+        featureSpatialIndexService.index(feature);
+        return FeatureBulkResult.created(featureId);
+    }
+
     @Transactional(readOnly = true)
     public FeatureResponse getFeature(String id) {
         Feature feature = findFeatureById(id);
         return getFeatureResponse(feature);
     }
 
+    /** 피처 상세 응답의 약한 ETag. 에셋/카테고리/디바이스 변경도 반영되며, 피처가 없으면 null 을 반환합니다. */
+    @Transactional(readOnly = true)
+    public String getFeatureETag(String id) {
+        ResourceVersion version = featureRepository.findVersionById(id);
+        return version.exists() ? version.toETag("feature-" + id) : null;
+    }
+
+    /** 피처 목록 응답의 약한 ETag. 건수와 최종 수정 시각으로 구성되어 추가/수정/삭제를 모두 감지합니다. */
+    @Transactional(readOnly = true)
+    public String getFeaturesETag() {
+        return featureRepository.findCollectionVersion().toETag("features");
+    }
+
     @Transactional(readOnly = true)
     public List<FeatureResponse> getFeatures() {
         List<Feature> features = featureRepository.findAll();
-        return features.stream().map(this::getFeatureResponse).toList();
+        return getFeatureResponses(features);
+    }
+
+    /**
+     * 모든 피처를 NDJSON으로 내보냅니다. 커서로 읽은 피처를 청크 단위로 직렬화/flush 하고 영속성 컨텍스트를 비워 피처 수와 무관하게 힙 사용량을
+     * 일정하게 유지합니다.
+     */
+    @Transactional(readOnly = true)
+    public void exportFeatures(OutputStream outputStream) throws IOException {
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+        List<Feature> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<Feature> features = featureRepository.streamAll()) {
+            Iterator<Feature> iterator = features.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    writeChunk(writer, chunk);
+                }
+            }
+        }
+        writeChunk(writer, chunk);
+    }
+
+    private void writeChunk(NdjsonWriter writer, List<Feature> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        writer.writeAll(getFeatureResponses(chunk));
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    @Transactional(readOnly = true)
+    public FeatureSliceResponse searchFeatures(FeatureSearchCondition condition) {
+        int size = condition.pageSize();
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<Feature> features =
+                condition.hasBounds()
+                        ? featureRepository.findPageInBounds(
+                                condition.facilityId(),
+                                condition.floorId(),
+                                condition.lowerX(),
+                                condition.upperX(),
+                                condition.lowerY(),
+                                condition.upperY(),
+                                condition.lowerZ(),
+                                condition.upperZ(),
+                                condition.afterId(),
+                                limit)
+                        : featureRepository.findPage(
+                                condition.facilityId(), condition.floorId(), condition.afterId(), limit);
+
+        boolean hasNext = features.size() > size;
+        List<Feature> page = hasNext ? features.subList(0, size) : features;
+        return FeatureSliceResponse.of(getFeatureResponses(page), hasNext);
     }
 
     @Transactional
     public FeatureResponse updateFeature(String id, FeatureUpdateRequest request) {
+        validatePosition(request.position());
         Feature feature = findFeatureById(id);
         feature.update(request);
+        featureSpatialIndexService.index(feature);
         return getFeatureResponse(feature);
     }
 
@@ -109,6 +299,7 @@ public class FeatureService {
 
         // 로깅 추가
         log.info("피처 [{}] 삭제 전 연관관계 정리 시작", id);
+        featureSpatialIndexService.remove(feature);
 
         // 모든 연관관계 제거
         feature.clearAllRelations();
@@ -268,8 +459,121 @@ public class FeatureService {
                 facilityThumbnailFileResponse);
     }
 
+    private List<FeatureResponse> getFeatureResponses(List<Feature> features) {
+        List<Long> fileIds = new ArrayList<>();
+        for (Feature feature : features) {
+            Asset asset = feature.getAsset();
+            if (asset != null) {
+                fileIds.add(asset.getFileId());
+                fileIds.add(asset.getThumbnailFileId());
+            }
+            Facility facility = feature.getFacility();
+            if (facility != null) {
+                fileIds.add(facility.getDrawingFileId());
+                fileIds.add(facility.getThumbnailFileId());
+            }
+        }
+
+        Map<Long, FileResponse> fileResponses = fileService.getFileResponses(fileIds);
+        return features.stream()
+                .map(
+                        feature -> {
+                            Asset asset = feature.getAsset();
+                            Facility facility = feature.getFacility();
+                            return FeatureResponse.from(
+                                    feature,
+                                    asset != null ? fileResponses.get(asset.getFileId()) : null,
+                                    asset != null ? fileResponses.get(asset.getThumbnailFileId()) : null,
+                                    facility != null
+                                            ? fileResponses.getOrDefault(facility.getDrawingFileId(), FileResponse.empty())
+                                            : FileResponse.empty(),
+                                    facility != null
+                                            ? fileResponses.getOrDefault(
+                                                    facility.getThumbnailFileId(), FileResponse.empty())
+                                            : FileResponse.empty());
+                        })
+                .toList();
+    }
+
     @Transactional
     public Feature saveFeature(Feature feature) {
-        return featureRepository.save(feature);
+        validatePosition(feature.getPosition());
+        Feature savedFeature = featureRepository.save(feature);
+        featureSpatialIndexService.index(savedFeature);
+        return savedFeature;
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeatureDistanceResponse> findFeaturesWithinRadius(String id, double radius) {
+        if (!(radius >= 0)) {
+            throw new CustomException(
+                    "Invalid radius", HttpStatus.BAD_REQUEST, "반경은 0 이상이어야 합니다");
+        }
+        Feature feature = findFeatureById(id);
+        Spatial position = requirePosition(feature);
+        return featureSpatialIndexService
+                .findWithinRadius(
+                        feature.getFacility().getId(),
+                        feature.getFloorId(),
+                        position.getX(),
+                        position.getY(),
+                        position.getZ(),
+                        radius)
+                .stream()
+                .filter(neighbor -> !neighbor.id().equals(id))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeatureDistanceResponse> findNearestFeatures(String id, int k) {
+        if (k < 1 || k > MAX_NEAREST_COUNT) {
+            throw new CustomException(
+                    "Invalid nearest count",
+                    HttpStatus.BAD_REQUEST,
+                    String.format("조회 개수는 1 이상 %d 이하여야 합니다", MAX_NEAREST_COUNT));
+        }
+        Feature feature = findFeatureById(id);
+        Spatial position = requirePosition(feature);
+        // 기준 피처 자신이 결과에 포함되므로 한 건 더 조회
+        return featureSpatialIndexService
+                .findNearest(
+                        feature.getFacility().getId(),
+                        feature.getFloorId(),
+                        position.getX(),
+                        position.getY(),
+                        position.getZ(),
+                        k + 1)
+                .stream()
+                .filter(neighbor -> !neighbor.id().equals(id))
+                .limit(k)
+                .toList();
+    }
+
+    /** 공간 인덱스는 커밋 이후에 갱신되므로, 인덱스에 담을 수 없는 좌표는 저장 전에 거부합니다. */
+    public void validatePosition(Spatial position) {
+        if (!isValidPosition(position)) {
+            throw new CustomException("Invalid position", HttpStatus.BAD_REQUEST, INVALID_POSITION_MESSAGE);
+        }
+    }
+
+    private static boolean isValidPosition(Spatial position) {
+        return position == null
+                || Stream.of(position.getX(), position.getY(), position.getZ())
+                        .allMatch(coordinate -> coordinate == null || Octree.accepts(coordinate));
+    }
+
+    private Spatial requirePosition(Feature feature) {
+        Spatial position = feature.getPosition();
+        if (feature.getFacility() == null
+                || position == null
+                || position.getX() == null
+                || position.getY() == null
+                || position.getZ() == null) {
+            throw new CustomException(
+                    "Feature has no position",
+                    HttpStatus.BAD_REQUEST,
+                    String.format("피처 ID [%s]의 시설 또는 위치 정보가 없습니다", feature.getId()));
+        }
+        return position;
     }
 }
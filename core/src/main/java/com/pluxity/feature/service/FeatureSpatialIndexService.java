@@ -0,0 +1,279 @@
+package com.pluxity.feature.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.pluxity.feature.dto.FeatureDistanceResponse;
+import com.pluxity.feature.dto.FeaturePosition;
+import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.entity.Spatial;
+import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.feature.spatial.Octree;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 시설/층 단위로 피처 위치를 옥트리에 보관하는 인메모리 공간 인덱스.
+ *
+ * <p>인덱스는 최초 조회 시 DB에서 위치만 읽어 구성하고, 이후에는 {@link FeatureService}의 생성/수정/삭제를 트랜잭션 커밋 후에
+ * 반영합니다.
+ *
+ * <p>로드 중에 들어온 변경이 유실되지 않도록 키마다 세대 번호를 둡니다. 변경은 세대를 올리고, 로드는 시작 시점과 세대가 같을 때만 결과를
+ * 게시합니다. 세대 확인과 게시, 세대 증가와 게시 여부 확인은 같은 세대 객체로 동기화됩니다.
+ *
+ * <p>인덱스는 로드 시점의 피처 수를 무게로 하는 Caffeine 캐시에 보관해 메모리 사용량을 제한합니다. 세대는 로드 중이거나 게시된 키에만 두고, 인덱스가
+ * 제거되면 함께 정리합니다.
+ */
+@Service
+@Slf4j
+public class FeatureSpatialIndexService {
+
+    private static final String CACHE_NAME = "featureSpatialIndex";
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final FeatureRepository featureRepository;
+    private final Cache<IndexKey, FloorIndex> indexes;
+    private final Map<IndexKey, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public FeatureSpatialIndexService(
+            FeatureRepository featureRepository,
+            MeterRegistry meterRegistry,
+            @Value("${feature.spatial-index.maximum-features:1000000}") long maximumFeatures) {
+        this.featureRepository = featureRepository;
+        // 제거 리스너는 세대 객체를 잠급니다. 게시 중인 스레드가 다른 세대를 잠근 채 축출을 일으킬 수 있으므로 기본 비동기 실행기에서 실행합니다.
+        this.indexes =
+                Caffeine.newBuilder()
+                        .maximumWeight(maximumFeatures)
+                        .<IndexKey, FloorIndex>weigher((key, index) -> Math.max(1, index.octree().size()))
+                        .removalListener(
+                                (IndexKey key, FloorIndex index, RemovalCause cause) -> {
+                                    if (cause.wasEvicted()) {
+                                        retireGeneration(key);
+                                    }
+                                })
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, CACHE_NAME);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeatureDistanceResponse> findWithinRadius(
+            Long facilityId, String floorId, double x, double y, double z, double radius) {
+        return read(
+                new IndexKey(facilityId, floorId),
+                octree ->
+                        octree.withinRadius(x, y, z, radius).stream()
+                                .map(FeatureDistanceResponse::from)
+                                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeatureDistanceResponse> findNearest(
+            Long facilityId, String floorId, double x, double y, double z, int k) {
+        return read(
+                new IndexKey(facilityId, floorId),
+                octree -> octree.nearest(x, y, z, k).stream().map(FeatureDistanceResponse::from).toList());
+    }
+
+    /** 피처 위치를 인덱스에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 적용됩니다. */
+    public void index(Feature feature) {
+        IndexKey key = IndexKey.of(feature);
+        if (key == null) {
+            return;
+        }
+
+        String featureId = feature.getId();
+        Spatial position = feature.getPosition();
+        boolean hasPosition =
+                position != null
+                        && position.getX() != null
+                        && position.getY() != null
+                        && position.getZ() != null;
+        double x = hasPosition ? position.getX() : 0;
+        double y = hasPosition ? position.getY() : 0;
+        double z = hasPosition ? position.getZ() : 0;
+
+        afterCommit(
+                () ->
+                        write(
+                                key,
+                                octree -> {
+                                    if (hasPosition) {
+                                        octree.put(featureId, x, y, z);
+                                    } else {
+                                        octree.remove(featureId);
+                                    }
+                                }));
+    }
+
+    /** 피처를 인덱스에서 제거합니다. 연관관계가 정리되기 전에 호출해야 합니다. */
+    public void remove(Feature feature) {
+        IndexKey key = IndexKey.of(feature);
+        if (key == null) {
+            return;
+        }
+
+        String featureId = feature.getId();
+        afterCommit(() -> write(key, octree -> octree.remove(featureId)));
+    }
+
+    /**
+     * 시설의 모든 층 인덱스와 세대를 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 적용됩니다. 세대를 올린 뒤 제거하므로 진행 중인 로드는 삭제 이전
+     * 스냅샷을 게시하지 못합니다.
+     */
+    public void evict(Long facilityId) {
+        afterCommit(
+                () -> {
+                    Set<IndexKey> keys = new HashSet<>(generations.keySet());
+                    keys.addAll(indexes.asMap().keySet());
+                    keys.stream().filter(key -> key.facilityId().equals(facilityId)).forEach(this::evict);
+                });
+    }
+
+    private void evict(IndexKey key) {
+        AtomicLong generation = generations.get(key);
+        if (generation == null) {
+            indexes.invalidate(key);
+            return;
+        }
+        synchronized (generation) {
+            generation.incrementAndGet();
+            generations.remove(key, generation);
+            indexes.invalidate(key);
+        }
+    }
+
+    /** 용량 초과로 축출된 키의 세대를 정리합니다. 그 사이 다시 게시되었으면 그대로 둡니다. */
+    private void retireGeneration(IndexKey key) {
+        AtomicLong generation = generations.get(key);
+        if (generation == null) {
+            return;
+        }
+        synchronized (generation) {
+            if (!indexes.asMap().containsKey(key)) {
+                generation.incrementAndGet();
+                generations.remove(key, generation);
+            }
+        }
+    }
+
+    private <T> T read(IndexKey key, Function<Octree, T> query) {
+        FloorIndex index = indexes.getIfPresent(key);
+        if (index == null) {
+            index = loadAndPublish(key);
+        }
+        index.lock().readLock().lock();
+        try {
+            return query.apply(index.octree());
+        } finally {
+            index.lock().readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스를 로드해 게시합니다. 로드 중에 변경이 들어와 세대가 바뀌었으면 그 스냅샷은 변경을 놓쳤을 수 있으므로 버리고 다시 로드합니다. 계속
+     * 경합하면 마지막 스냅샷으로 이번 조회만 응답하고 게시하지 않습니다. 세대는 제거되었을 수 있으므로 시도마다 다시 가져옵니다.
+     */
+    private FloorIndex loadAndPublish(IndexKey key) {
+        FloorIndex loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            AtomicLong generation = generation(key);
+            long startGeneration = generation.get();
+            loaded = load(key);
+            synchronized (generation) {
+                if (generation.get() == startGeneration) {
+                    FloorIndex existing = indexes.asMap().putIfAbsent(key, loaded);
+                    return existing != null ? existing : loaded;
+                }
+            }
+            log.debug("공간 인덱스 로드 중 변경 감지, 다시 로드: facilityId={}, floorId={}", key.facilityId(), key.floorId());
+        }
+        retireGeneration(key);
+        return loaded;
+    }
+
+    /**
+     * 변경마다 세대를 올립니다. 세대가 없으면 로드 중이거나 게시된 인덱스가 없다는 뜻이고, 다음 로드가 DB에서 최신 상태로 구성하므로 갱신하지 않습니다.
+     */
+    private void write(IndexKey key, Consumer<Octree> mutation) {
+        AtomicLong generation = generations.get(key);
+        if (generation == null) {
+            return;
+        }
+        FloorIndex index;
+        synchronized (generation) {
+            generation.incrementAndGet();
+            index = indexes.getIfPresent(key);
+        }
+        if (index == null) {
+            return;
+        }
+        index.lock().writeLock().lock();
+        try {
+            mutation.accept(index.octree());
+        } finally {
+            index.lock().writeLock().unlock();
+        }
+    }
+
+    private AtomicLong generation(IndexKey key) {
+        return generations.computeIfAbsent(key, ignored -> new AtomicLong());
+    }
+
+    private FloorIndex load(IndexKey key) {
+        Octree octree = new Octree();
+        for (FeaturePosition position : featureRepository.findPositions(key.facilityId(), key.floorId())) {
+            if (position.hasPosition()) {
+                octree.put(position.id(), position.x(), position.y(), position.z());
+            }
+        }
+        log.debug(
+                "공간 인덱스 로드: facilityId={}, floorId={}, size={}",
+                key.facilityId(),
+                key.floorId(),
+                octree.size());
+        return new FloorIndex(octree, new ReentrantReadWriteLock());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+            return;
+        }
+        action.run();
+    }
+
+    private record IndexKey(Long facilityId, String floorId) {
+
+        private static IndexKey of(Feature feature) {
+            if (feature.getFacility() == null || feature.getFloorId() == null) {
+                return null;
+            }
+            return new IndexKey(feature.getFacility().getId(), feature.getFloorId());
+        }
+    }
+
+    private record FloorIndex(Octree octree, ReadWriteLock lock) {}
+}
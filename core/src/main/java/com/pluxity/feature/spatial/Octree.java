@@ -0,0 +1,313 @@
+package com.pluxity.feature.spatial;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 3차원 점을 위한 포인트 옥트리. 좌표는 리프마다 평탄화된 double[] 로 보관하며, 범위를 벗어난 점이 들어오면 루트를 확장합니다.
+ *
+ * <p>스레드 안전하지 않으므로 동시 접근 시 호출 측에서 동기화해야 합니다.
+ */
+public class Octree {
+
+    private static final int LEAF_CAPACITY = 16;
+    private static final int MAX_DEPTH = 24;
+    private static final double INITIAL_HALF_SIZE = 1.0;
+    /** 루트를 확장해도 크기가 무한대로 넘치지 않도록 좌표의 절댓값을 제한합니다. */
+    public static final double MAX_COORDINATE = 1.0e12;
+    /** 초기 크기에서 MAX_COORDINATE 범위 전체를 덮는 데 필요한 확장 횟수(약 41회)에 여유를 둔 상한입니다. */
+    private static final int MAX_GROW_STEPS = 64;
+
+    private final Map<String, double[]> points = new HashMap<>();
+    private Node root;
+
+    public int size() {
+        return points.size();
+    }
+
+    public boolean contains(String id) {
+        return points.containsKey(id);
+    }
+
+    /** 좌표 값이 유한하고 ±{@link #MAX_COORDINATE} 이내인지 확인합니다. */
+    public static boolean accepts(double coordinate) {
+        return Double.isFinite(coordinate) && Math.abs(coordinate) <= MAX_COORDINATE;
+    }
+
+    public void put(String id, double x, double y, double z) {
+        if (!accepts(x) || !accepts(y) || !accepts(z)) {
+            throw new IllegalArgumentException(
+                    String.format("좌표는 ±%.0e 이내의 유한한 값이어야 합니다: %s", MAX_COORDINATE, id));
+        }
+
+        double[] previous = points.get(id);
+        if (previous != null) {
+            if (previous[0] == x && previous[1] == y && previous[2] == z) {
+                return;
+            }
+            remove(id);
+        }
+
+        double[] point = {x, y, z};
+        if (root == null || points.isEmpty()) {
+            root =
+                    new Node(
+                            x - INITIAL_HALF_SIZE,
+                            y - INITIAL_HALF_SIZE,
+                            z - INITIAL_HALF_SIZE,
+                            INITIAL_HALF_SIZE * 2);
+        }
+        for (int steps = 0; !root.contains(point); steps++) {
+            if (steps == MAX_GROW_STEPS) {
+                throw new IllegalStateException("옥트리 확장 횟수를 초과했습니다: " + id);
+            }
+            grow(point);
+        }
+
+        root.insert(id, point, 0);
+        points.put(id, point);
+    }
+
+    public boolean remove(String id) {
+        double[] point = points.remove(id);
+        if (point == null) {
+            return false;
+        }
+        return root.remove(id, point);
+    }
+
+    /** 중심점에서 반경 이내의 점을 거리 오름차순으로 반환합니다. */
+    public List<Neighbor> withinRadius(double x, double y, double z, double radius) {
+        List<Neighbor> result = new ArrayList<>();
+        if (root == null || points.isEmpty() || radius < 0) {
+            return result;
+        }
+
+        double radiusSq = radius * radius;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.distanceSq(x, y, z) > radiusSq) {
+                continue;
+            }
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+                continue;
+            }
+            for (int i = 0; i < node.count; i++) {
+                double distanceSq = node.pointDistanceSq(i, x, y, z);
+                if (distanceSq <= radiusSq) {
+                    result.add(new Neighbor(node.ids[i], Math.sqrt(distanceSq)));
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Neighbor::distance));
+        return result;
+    }
+
+    /** 중심점에서 가장 가까운 k개의 점을 거리 오름차순으로 반환합니다. */
+    public List<Neighbor> nearest(double x, double y, double z, int k) {
+        if (root == null || points.isEmpty() || k <= 0) {
+            return new ArrayList<>();
+        }
+
+        PriorityQueue<NodeDistance> nodes =
+                new PriorityQueue<>(Comparator.comparingDouble(NodeDistance::distanceSq));
+        PriorityQueue<Neighbor> best =
+                new PriorityQueue<>(Comparator.comparingDouble(Neighbor::distance).reversed());
+        nodes.add(new NodeDistance(root, root.distanceSq(x, y, z)));
+
+        while (!nodes.isEmpty()) {
+            NodeDistance next = nodes.poll();
+            if (best.size() == k && next.distanceSq() > square(best.peek().distance())) {
+                break;
+            }
+
+            Node node = next.node();
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    nodes.add(new NodeDistance(child, child.distanceSq(x, y, z)));
+                }
+                continue;
+            }
+            for (int i = 0; i < node.count; i++) {
+                double distance = Math.sqrt(node.pointDistanceSq(i, x, y, z));
+                if (best.size() < k) {
+                    best.add(new Neighbor(node.ids[i], distance));
+                } else if (distance < best.peek().distance()) {
+                    best.poll();
+                    best.add(new Neighbor(node.ids[i], distance));
+                }
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbor::distance));
+        return result;
+    }
+
+    private void grow(double[] point) {
+        Node old = root;
+        double size = old.size;
+        double minX = point[0] < old.minX ? old.minX - size : old.minX;
+        double minY = point[1] < old.minY ? old.minY - size : old.minY;
+        double minZ = point[2] < old.minZ ? old.minZ - size : old.minZ;
+
+        Node parent = new Node(minX, minY, minZ, size * 2);
+        parent.children = new Node[8];
+        for (int octant = 0; octant < 8; octant++) {
+            parent.children[octant] = parent.childBounds(octant);
+        }
+        int oldOctant =
+                (old.minX == minX ? 0 : 1) | (old.minY == minY ? 0 : 2) | (old.minZ == minZ ? 0 : 4);
+        parent.children[oldOctant] = old;
+        parent.ids = null;
+        parent.coords = null;
+        root = parent;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    public record Neighbor(String id, double distance) {}
+
+    private record NodeDistance(Node node, double distanceSq) {}
+
+    private static final class Node {
+
+        private final double minX;
+        private final double minY;
+        private final double minZ;
+        private final double size;
+
+        private Node[] children;
+        private String[] ids = new String[LEAF_CAPACITY];
+        private double[] coords = new double[LEAF_CAPACITY * 3];
+        private int count;
+
+        private Node(double minX, double minY, double minZ, double size) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.size = size;
+        }
+
+        /** 하위 노드 선택과 일관되도록 상한은 포함하지 않는 반열린 구간으로 판단합니다. */
+        private boolean contains(double[] point) {
+            return point[0] >= minX
+                    && point[0] < minX + size
+                    && point[1] >= minY
+                    && point[1] < minY + size
+                    && point[2] >= minZ
+                    && point[2] < minZ + size;
+        }
+
+        private void insert(String id, double[] point, int depth) {
+            if (children != null) {
+                children[octant(point)].insert(id, point, depth + 1);
+                return;
+            }
+
+            if (count == ids.length) {
+                if (depth < MAX_DEPTH) {
+                    split(depth);
+                    children[octant(point)].insert(id, point, depth + 1);
+                    return;
+                }
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+
+            ids[count] = id;
+            coords[count * 3] = point[0];
+            coords[count * 3 + 1] = point[1];
+            coords[count * 3 + 2] = point[2];
+            count++;
+        }
+
+        private boolean remove(String id, double[] point) {
+            if (children != null) {
+                return children[octant(point)].remove(id, point);
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (ids[i].equals(id)) {
+                    int last = count - 1;
+                    ids[i] = ids[last];
+                    System.arraycopy(coords, last * 3, coords, i * 3, 3);
+                    ids[last] = null;
+                    count--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void split(int depth) {
+            children = new Node[8];
+            for (int octant = 0; octant < 8; octant++) {
+                children[octant] = childBounds(octant);
+            }
+            for (int i = 0; i < count; i++) {
+                double[] point = {coords[i * 3], coords[i * 3 + 1], coords[i * 3 + 2]};
+                children[octant(point)].insert(ids[i], point, depth + 1);
+            }
+            ids = null;
+            coords = null;
+            count = 0;
+        }
+
+        private Node childBounds(int octant) {
+            double half = size / 2;
+            return new Node(
+                    minX + ((octant & 1) != 0 ? half : 0),
+                    minY + ((octant & 2) != 0 ? half : 0),
+                    minZ + ((octant & 4) != 0 ? half : 0),
+                    half);
+        }
+
+        private int octant(double[] point) {
+            double half = size / 2;
+            return (point[0] >= minX + half ? 1 : 0)
+                    | (point[1] >= minY + half ? 2 : 0)
+                    | (point[2] >= minZ + half ? 4 : 0);
+        }
+
+        /** 주어진 점과 이 노드 경계 상자 사이의 최소 거리 제곱 */
+        private double distanceSq(double x, double y, double z) {
+            double dx = axisDistance(x, minX, minX + size);
+            double dy = axisDistance(y, minY, minY + size);
+            double dz = axisDistance(z, minZ, minZ + size);
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        private double pointDistanceSq(int index, double x, double y, double z) {
+            double dx = coords[index * 3] - x;
+            double dy = coords[index * 3 + 1] - y;
+            double dz = coords[index * 3 + 2] - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        private static double axisDistance(double value, double min, double max) {
+            if (value < min) {
+                return min - value;
+            }
+            if (value > max) {
+                return value - max;
+            }
+            return 0;
+        }
+    }
+}
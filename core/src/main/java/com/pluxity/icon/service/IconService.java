@@ -10,6 +10,7 @@ import com.pluxity.icon.dto.IconUpdateRequest;
 import com.pluxity.icon.entity.Icon;
 import com.pluxity.icon.repository.IconRepository;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -32,8 +33,11 @@ public class IconService {
 
     @Transactional(readOnly = true)
     public List<IconResponse> getIcons() {
-        return repository.findAll().stream()
-                .map(icon -> IconResponse.from(icon, fileService.getFileResponse(icon.getFileId())))
+        List<Icon> icons = repository.findAll();
+        Map<Long, FileResponse> fileResponses =
+                fileService.getFileResponses(icons.stream().map(Icon::getFileId).toList());
+        return icons.stream()
+                .map(icon -> IconResponse.from(icon, fileResponses.get(icon.getFileId())))
                 .toList();
     }
 
@@ -56,15 +60,18 @@ public class IconService {
         Icon icon = findById(id);
         icon.update(request);
 
-        if (request.fileId() != null) {
+        if (request.fileId() != null && !request.fileId().equals(icon.getFileId())) {
+            Long previousFileId = icon.getFileId();
             FileEntity fileEntity = fileService.finalizeUpload(request.fileId(), icon.getIconFilePath());
             icon.updateFileEntity(fileEntity);
+            fileService.releaseFile(previousFileId);
         }
     }
 
     @Transactional
     public void delete(Long id) {
         Icon icon = findById(id);
+        fileService.releaseFile(icon.getFileId());
         repository.delete(icon);
     }
 
@@ -11,8 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/label-3d")
@@ -46,6 +48,16 @@ public class Label3DController {
         return ResponseEntity.ok(DataResponseBody.of(responses));
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "모든 Label3D 스트리밍 조회",
+            description = "Accept: application/x-ndjson 요청 시 모든 Label3D를 한 줄에 하나씩 스트리밍합니다.")
+    @ApiResponse(responseCode = "200", description = "스트리밍 시작")
+    public ResponseEntity<StreamingResponseBody> exportAll() {
+        StreamingResponseBody body = label3DService::exportLabel3Ds;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Label3D 조회", description = "ID로 특정 Label3D를 조회합니다.")
     @ApiResponses(
@@ -1,9 +1,13 @@
 package com.pluxity.label3d;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +21,11 @@ public interface Label3DRepository extends JpaRepository<Label3D, String> {
     @EntityGraph(attributePaths = {"feature.asset"})
     @NonNull
     List<Label3D> findAll();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Label3D l LEFT JOIN FETCH l.feature f LEFT JOIN FETCH f.device")
+    Stream<Label3D> streamAll();
 }
@@ -1,11 +1,20 @@
 package com.pluxity.label3d;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pluxity.facility.facility.FacilityService;
 import com.pluxity.feature.dto.FeatureUpdateRequest;
 import com.pluxity.feature.entity.Feature;
 import com.pluxity.feature.service.FeatureService;
+import com.pluxity.feature.service.FeatureSpatialIndexService;
+import com.pluxity.global.response.NdjsonWriter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +23,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class Label3DService {
 
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final Label3DRepository label3DRepository;
     private final FeatureService featureService;
     private final FacilityService facilityService;
+    private final FeatureSpatialIndexService featureSpatialIndexService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Transactional
     public Label3DResponse createLabel3D(Label3DCreateRequest request) {
@@ -48,6 +62,25 @@ public class Label3DService {
         return label3DRepository.findAll().stream().map(Label3DResponse::from).toList();
     }
 
+    /** 모든 Label3D를 NDJSON으로 내보냅니다. 청크마다 flush 후 영속성 컨텍스트를 비웁니다. */
+    @Transactional(readOnly = true)
+    public void exportLabel3Ds(OutputStream outputStream) throws IOException {
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+        List<Label3DResponse> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<Label3D> label3Ds = label3DRepository.streamAll()) {
+            Iterator<Label3D> iterator = label3Ds.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(Label3DResponse.from(iterator.next()));
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    writer.writeAll(chunk);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.writeAll(chunk);
+    }
+
     @Transactional(readOnly = true)
     public List<Label3DResponse> getLabel3DsByFacilityId(String facilityId) {
         return label3DRepository.findAllByFacilityId(facilityId).stream()
@@ -57,11 +90,13 @@ public class Label3DService {
 
     @Transactional
     public Label3DResponse updateLabel3D(String id, Label3DUpdateRequest request) {
+        featureService.validatePosition(request.position());
         Label3D label3D = findLabel3DById(id);
 
         FeatureUpdateRequest featureUpdateRequest =
                 new FeatureUpdateRequest(request.position(), request.rotation(), request.scale());
         label3D.getFeature().update(featureUpdateRequest);
+        featureSpatialIndexService.index(label3D.getFeature());
 
         return Label3DResponse.from(label3D);
     }
@@ -8,8 +8,11 @@ import com.pluxity.asset.entity.Asset;
 import com.pluxity.asset.repository.AssetRepository;
 import com.pluxity.feature.repository.FeatureRepository;
 import com.pluxity.feature.service.FeatureService;
+import com.pluxity.file.entity.FileBlob;
+import com.pluxity.file.repository.FileBlobRepository;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,6 +55,12 @@ class AssetServiceTest {
     @Autowired
     private FeatureRepository featureRepository;
 
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Long assetFileId;
     private Long thumbnailFileId;
     private Long categoryId;
@@ -293,6 +302,42 @@ class AssetServiceTest {
         assertThrows(CustomException.class, () -> assetService.getAsset(id));
     }
 
+    @Test
+    @DisplayName("에셋 삭제 시 공유 저장소 객체의 참조가 해제되고 마지막 참조가 끊기면 저장소 객체가 삭제된다")
+    void deleteAsset_ReleasesSharedBlob() {
+        // given
+        FileBlob blob = fileBlobRepository.saveAndFlush(FileBlob.builder()
+                .contentHash("ef".repeat(32))
+                .filePath(FileBlob.directoryOf("ef".repeat(32)) + "blob.png")
+                .contentType("image/png")
+                .build());
+        fileService.getFile(assetFileId).linkBlob(blob);
+        fileService.getFile(thumbnailFileId).linkBlob(blob);
+        fileBlobRepository.incrementReferenceCount(blob.getId());
+        fileBlobRepository.incrementReferenceCount(blob.getId());
+        Long assetId = assetRepository.save(
+                Asset.builder().name("참조 해제 에셋").code("REL01").fileId(assetFileId).build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        assetService.deleteAsset(assetId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(fileBlobRepository.findById(blob.getId()).orElseThrow().getReferenceCount()).isEqualTo(1);
+
+        // when
+        fileService.releaseFile(thumbnailFileId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(fileBlobRepository.findById(blob.getId())).isEmpty();
+        assertThat(fileService.getFile(thumbnailFileId).getBlob()).isNull();
+    }
+
     @Test
     @DisplayName("에셋에 카테고리 할당 시 에셋의 카테고리가 업데이트된다")
     void assignCategory_UpdatesAssetCategory() throws IOException {
@@ -604,6 +649,31 @@ class AssetServiceTest {
         assertThat(secondCategoryAssets.getFirst().categoryId()).isEqualTo(secondCategoryId);
     }
 
+    @Test
+    @DisplayName("카테고리 하위 트리 에셋 조회 시 하위 카테고리의 에셋까지 반환되고 다른 트리의 에셋은 제외된다")
+    void getAssetsInCategorySubtree_ReturnsAssetsOfWholeSubtree() throws IOException {
+        // given
+        Long childCategoryId = assetCategoryService.createAssetCategory(
+                new AssetCategoryCreateRequest("하위 카테고리", "CHD", categoryId, null));
+        Long otherCategoryId = assetCategoryService.createAssetCategory(
+                new AssetCategoryCreateRequest("다른 카테고리", "OTH", null, null));
+
+        Long parentAssetId = assetService.createAsset(new AssetCreateRequest(
+                "상위 에셋", "AP1", createNewFileId(), createNewFileId(), categoryId));
+        Long childAssetId = assetService.createAsset(new AssetCreateRequest(
+                "하위 에셋", "AC1", createNewFileId(), createNewFileId(), childCategoryId));
+        Long otherAssetId = assetService.createAsset(new AssetCreateRequest(
+                "다른 에셋", "AO1", createNewFileId(), createNewFileId(), otherCategoryId));
+
+        // when
+        List<AssetResponse> subtreeAssets = assetService.getAssetsInCategorySubtree(categoryId);
+
+        // then
+        assertThat(subtreeAssets).extracting(AssetResponse::id)
+                .containsExactly(parentAssetId, childAssetId)
+                .doesNotContain(otherAssetId);
+    }
+
     @Test
     @DisplayName("존재하지 않는 카테고리 ID로 에셋에 카테고리 할당 시도 시 예외가 발생한다")
     void assignCategory_WithNonExistingCategoryId_ThrowsCustomException() throws IOException {
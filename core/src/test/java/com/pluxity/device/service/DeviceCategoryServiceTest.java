@@ -3,6 +3,7 @@ package com.pluxity.device.service;
 import com.pluxity.device.dto.DeviceCategoryRequest;
 import com.pluxity.device.dto.DeviceCategoryResponse;
 import com.pluxity.device.dto.DeviceCategoryTreeResponse;
+import com.pluxity.device.entity.DeviceCategory;
 import com.pluxity.device.repository.DeviceCategoryRepository;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
@@ -114,6 +115,20 @@ class DeviceCategoryServiceTest {
         assertThat(responses.getFirst().iconFile().id()).isEqualTo(iconFileId);
     }
 
+    @Test
+    @DisplayName("루트 카테고리 조회 시 하위 카테고리는 포함되지 않는다")
+    void getRootDeviceCategoryResponses_ExcludesChildCategories() {
+        // given
+        Long rootId = deviceCategoryService.create(createRequest);
+        Long childId = deviceCategoryService.create(new DeviceCategoryRequest("하위 카테고리", rootId, null));
+
+        // when
+        List<DeviceCategoryResponse> responses = deviceCategoryService.getRootDeviceCategoryResponses();
+
+        // then
+        assertThat(responses).extracting(DeviceCategoryResponse::id).contains(rootId).doesNotContain(childId);
+    }
+
     @Test
     @DisplayName("ID로 카테고리 조회 시 카테고리 정보가 반환된다")
     void getDeviceCategoryResponse_WithExistingId_ReturnsCategoryResponse() {
@@ -173,6 +188,68 @@ class DeviceCategoryServiceTest {
         assertThat(treeResponses.getFirst().children().getFirst().name()).isEqualTo("하위 카테고리");
     }
 
+    @Test
+    @DisplayName("계층 구조 조회 시 모든 깊이의 카테고리에 아이콘 파일이 채워진다")
+    void getDeviceCategoryTree_ResolvesIconFilesAtEveryDepth() {
+        // given
+        Long rootId = deviceCategoryService.create(createRequest);
+        Long childId =
+                deviceCategoryService.create(new DeviceCategoryRequest("하위 카테고리", rootId, iconFileId));
+        deviceCategoryService.create(new DeviceCategoryRequest("최하위 카테고리", childId, iconFileId));
+
+        // when
+        List<DeviceCategoryTreeResponse> treeResponses = deviceCategoryService.getDeviceCategoryTree();
+
+        // then
+        DeviceCategoryTreeResponse root =
+                treeResponses.stream().filter(response -> response.id().equals(rootId)).findFirst().orElseThrow();
+        DeviceCategoryTreeResponse leaf = root.children().getFirst().children().getFirst();
+        assertThat(leaf.name()).isEqualTo("최하위 카테고리");
+        assertThat(root.iconFile()).isNotNull();
+        assertThat(leaf.iconFile()).isNotNull();
+        assertThat(leaf.iconFile().id()).isEqualTo(iconFileId);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 전체 조회 시 모든 깊이의 자손이 반환되고, 이동 시 path 가 갱신된다")
+    void findAllDescendants_ReturnsWholeSubtree() {
+        // given
+        Long rootId = deviceCategoryService.create(createRequest);
+        Long childId =
+                deviceCategoryService.create(new DeviceCategoryRequest("하위 카테고리", rootId, iconFileId));
+        Long leafId =
+                deviceCategoryService.create(new DeviceCategoryRequest("최하위 카테고리", childId, iconFileId));
+        Long otherRootId =
+                deviceCategoryService.create(new DeviceCategoryRequest("다른 루트", null, iconFileId));
+
+        // when
+        List<Long> descendantIds =
+                deviceCategoryRepository.findAllDescendants(deviceCategoryService.findById(rootId)).stream()
+                        .map(DeviceCategory::getId)
+                        .toList();
+        deviceCategoryService.update(childId, new DeviceCategoryRequest(null, otherRootId, null));
+
+        // then
+        assertThat(descendantIds).containsExactly(childId, leafId);
+        assertThat(deviceCategoryRepository.findAllDescendants(deviceCategoryService.findById(rootId))).isEmpty();
+        assertThat(deviceCategoryService.findById(leafId).getPath())
+                .isEqualTo("/" + otherRootId + "/" + childId + "/");
+    }
+
+    @Test
+    @DisplayName("자신의 하위 카테고리를 부모로 지정하면 예외가 발생한다")
+    void update_WithDescendantAsParent_ThrowsCustomException() {
+        // given
+        Long rootId = deviceCategoryService.create(createRequest);
+        Long childId =
+                deviceCategoryService.create(new DeviceCategoryRequest("하위 카테고리", rootId, iconFileId));
+
+        // when & then
+        assertThrows(
+                CustomException.class,
+                () -> deviceCategoryService.update(rootId, new DeviceCategoryRequest(null, childId, null)));
+    }
+
     @Test
     @DisplayName("디바이스가 없는 카테고리 삭제 시 정상적으로 삭제된다")
     void delete_WithEmptyCategory_DeletesCategory() {
@@ -0,0 +1,208 @@
+package com.pluxity.facility.service;
+
+import com.pluxity.facility.building.Building;
+import com.pluxity.facility.building.BuildingRepository;
+import com.pluxity.facility.facility.FacilityService;
+import com.pluxity.facility.floor.Floor;
+import com.pluxity.facility.floor.FloorRepository;
+import com.pluxity.facility.line.Line;
+import com.pluxity.facility.line.LineRepository;
+import com.pluxity.facility.panorama.Panorama;
+import com.pluxity.facility.station.Station;
+import com.pluxity.facility.station.StationRepository;
+import com.pluxity.facility.station.StationService;
+import com.pluxity.facility.station.dto.StationResponse;
+import com.pluxity.facility.station.dto.StationResponseWithFeature;
+import com.pluxity.feature.dto.FeatureResponseWithoutAsset;
+import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.entity.Spatial;
+import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.global.exception.CustomException;
+import com.pluxity.label3d.Label3D;
+import com.pluxity.label3d.Label3DRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(
+        properties =
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + "com.pluxity.facility.service.FacilityQueryPlanTest$SqlCapture")
+@Transactional
+class FacilityQueryPlanTest {
+
+    private static final Pattern OTHER_SUBTYPE_TABLES = Pattern.compile("\\b(station|panorama)\\b");
+
+    @Autowired
+    FacilityService facilityService;
+
+    @Autowired
+    BuildingRepository buildingRepository;
+
+    @Autowired
+    StationService stationService;
+
+    @Autowired
+    StationRepository stationRepository;
+
+    @Autowired
+    LineRepository lineRepository;
+
+    @Autowired
+    FloorRepository floorRepository;
+
+    @Autowired
+    FeatureRepository featureRepository;
+
+    @Autowired
+    Label3DRepository label3DRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private Long buildingId;
+
+    @BeforeEach
+    void setUp() {
+        buildingId = buildingRepository.save(Building.builder().name("쿼리 계획 건물").description("설명").build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("타입을 지정한 조회는 해당 하위 타입 테이블과 facility 테이블만 읽는다")
+    void findById_WithType_ReadsOnlySubtypeTable() {
+        // when
+        Building building = facilityService.findById(buildingId, Building.class);
+
+        // then
+        assertThat(building.getName()).isEqualTo("쿼리 계획 건물");
+        List<String> statements = List.copyOf(SqlCapture.STATEMENTS);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).toLowerCase()).contains("building").contains("facility");
+        assertThat(OTHER_SUBTYPE_TABLES.matcher(statements.get(0).toLowerCase()).find()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다형성 조회는 다른 하위 타입 테이블까지 조인한다")
+    void findById_Polymorphic_JoinsEverySubtypeTable() {
+        // when
+        facilityService.findById(buildingId);
+
+        // then
+        assertThat(SqlCapture.STATEMENTS).anyMatch(sql -> OTHER_SUBTYPE_TABLES.matcher(sql.toLowerCase()).find());
+    }
+
+    @Test
+    @DisplayName("구분 값 조회는 facility 테이블만 읽는다")
+    void getFacilityType_ReadsOnlyFacilityTable() {
+        // when
+        String facilityType = facilityService.getFacilityType(buildingId);
+
+        // then
+        assertThat(facilityType).isEqualTo("BUILDING");
+        assertThat(SqlCapture.STATEMENTS).hasSize(1);
+        String sql = SqlCapture.STATEMENTS.get(0).toLowerCase();
+        assertThat(sql).contains("from facility");
+        assertThat(Pattern.compile("\\b(building|station|panorama)\\b").matcher(sql).find()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 타입으로 조회하면 예외가 발생한다")
+    void findById_WithOtherType_ThrowsNotFound() {
+        // when & then
+        assertThrows(CustomException.class, () -> facilityService.findById(buildingId, Panorama.class));
+    }
+
+    @Test
+    @DisplayName("역 목록 조회는 역 개수와 무관하게 고정된 수의 쿼리만 실행한다")
+    void findAllStations_RunsFixedNumberOfQueries() {
+        // given
+        Line line = lineRepository.save(Line.builder().name("쿼리 계획 노선").color("#000000").build());
+        for (int i = 0; i < 3; i++) {
+            Station station =
+                    stationRepository.save(
+                            Station.builder().name("쿼리 계획 역 " + i).description("설명").route("경로").build());
+            station.addLine(line);
+            floorRepository.save(Floor.builder().facility(station).floorId("B" + i).name(i + "층").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        List<StationResponse> responses = stationService.findAll();
+
+        // then
+        assertThat(responses).hasSize(3);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.lineIds()).containsExactly(line.getId());
+            assertThat(response.floors()).hasSize(1);
+            assertThat(response.route()).isEqualTo("경로");
+        });
+        // 역 요약, 층, 노선, 피처 ID 각 1회 (파일 ID가 없으면 파일 조회는 생략)
+        assertThat(SqlCapture.STATEMENTS).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("역 씬 조회는 라벨3D 피처를 제외하고 피처 수와 무관한 쿼리 수로 조회한다")
+    void findStationWithFeatures_ExcludesLabel3DWithFixedQueries() {
+        // given
+        Station station =
+                stationRepository.save(Station.builder().name("씬 역").description("설명").route("경로").build());
+        floorRepository.save(Floor.builder().facility(station).floorId("1F").name("1층").build());
+        for (int i = 0; i < 5; i++) {
+            featureRepository.save(
+                    Feature.builder()
+                            .id("scene-feature-" + i)
+                            .position(new Spatial((double) i, 0.0, 0.0))
+                            .rotation(new Spatial(0.0, 0.0, 0.0))
+                            .scale(new Spatial(1.0, 1.0, 1.0))
+                            .facility(station)
+                            .floorId("1F")
+                            .build());
+        }
+        Feature labeled = featureRepository.findById("scene-feature-0").orElseThrow();
+        label3DRepository.save(Label3D.createWithFeature(labeled, "라벨"));
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        StationResponseWithFeature response = stationService.findStationWithFeatures(station.getId());
+
+        // then
+        assertThat(response.features())
+                .extracting(FeatureResponseWithoutAsset::id)
+                .containsExactly("scene-feature-1", "scene-feature-2", "scene-feature-3", "scene-feature-4");
+        assertThat(response.features().get(0).position().getX()).isEqualTo(1.0);
+        assertThat(response.floors()).hasSize(1);
+        // 역, 노선, 피처, 층 각 1회 (파일과 디바이스가 없으면 해당 조회는 생략)
+        assertThat(SqlCapture.STATEMENTS).hasSize(4);
+    }
+
+    /** 테스트 중 실행된 SQL 을 모은다. */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.pluxity.facility.service;
+
+import com.pluxity.facility.facility.Facility;
+import com.pluxity.facility.facility.FacilityHistoryCache;
+import com.pluxity.facility.facility.FacilityRepository;
+import com.pluxity.facility.facility.FacilityRevisionRepository;
+import com.pluxity.facility.facility.FacilityService;
+import com.pluxity.facility.facility.dto.FacilityHistoryResponse;
+import com.pluxity.facility.station.Station;
+import com.pluxity.feature.service.FeatureSpatialIndexService;
+import com.pluxity.file.dto.FileResponse;
+import com.pluxity.file.service.FileService;
+import com.pluxity.global.exception.CustomException;
+import com.pluxity.global.response.PageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+import org.springframework.data.history.RevisionSort;
+import org.springframework.data.history.Revisions;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FacilityServiceTest {
+
+    private static final Long FACILITY_ID = 1L;
+
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private FacilityRevisionRepository facilityRevisionRepository;
+
+    @Mock
+    private FeatureSpatialIndexService featureSpatialIndexService;
+
+    private FacilityService facilityService;
+
+    @BeforeEach
+    void setUp() {
+        FacilityHistoryCache historyCache = new FacilityHistoryCache(new SimpleMeterRegistry(), Duration.ofHours(1), 100);
+        facilityService = new FacilityService(
+                facilityRepository, fileService, entityManager, facilityRevisionRepository,
+                featureSpatialIndexService, historyCache);
+    }
+
+    @Test
+    @DisplayName("이력은 최신 리비전부터 요청한 페이지만 조회하고 파일은 한 번에 조회한다")
+    void findFacilityHistories_PagesNewestFirst_ResolvesFilesInBulk() {
+        // given
+        givenFacilityExists();
+        givenLatestRevision(5);
+        // 다른 mock 의 stubbing 도중에 만들지 않도록 리비전을 미리 만든다
+        List<Revision<Integer, Facility>> revisions =
+                List.of(revision("역 v4", 10L, 11L), revision("역 v3", 20L, null));
+        given(facilityRevisionRepository.findRevisions(eq(FACILITY_ID), any(Pageable.class)))
+                .willReturn(new PageImpl<>(revisions, PageRequest.of(1, 2, RevisionSort.desc()), 5));
+        given(fileService.getFileResponses(any()))
+                .willReturn(Map.of(
+                        10L, fileResponse(10L),
+                        11L, fileResponse(11L),
+                        20L, fileResponse(20L)));
+
+        // when
+        PageResponse<FacilityHistoryResponse> result = facilityService.findFacilityHistories(FACILITY_ID, 1, 2);
+
+        // then
+        assertEquals(5, result.totalElements());
+        assertEquals(3, result.totalPages());
+        assertThat(result.content()).extracting(FacilityHistoryResponse::name).containsExactly("역 v4", "역 v3");
+        assertEquals(10L, result.content().get(0).drawingFile().id());
+        assertEquals(FileResponse.empty(), result.content().get(1).thumbnailFile());
+
+        verify(facilityRevisionRepository).findRevisions(eq(FACILITY_ID), argThat((Pageable pageable) ->
+                pageable.getPageNumber() == 1
+                        && pageable.getPageSize() == 2
+                        && pageable.getSort().equals(RevisionSort.desc())));
+        verify(fileService, times(1)).getFileResponses(argThat((Collection<Long> ids) ->
+                ids.containsAll(List.of(10L, 11L, 20L))));
+        verify(fileService, never()).getFileResponse(anyLong());
+    }
+
+    @Test
+    @DisplayName("최신 리비전이 그대로면 캐시된 이력 페이지를 쓰고, 새 리비전이 생기면 다시 조회한다")
+    void findFacilityHistories_CachesPageUntilNewRevision() {
+        // given
+        givenFacilityExists();
+        Revision<Integer, Facility> latest = latestRevision(5);
+        Revision<Integer, Facility> newer = latestRevision(6);
+        given(facilityRevisionRepository.findLastChangeRevision(FACILITY_ID))
+                .willReturn(Optional.of(latest), Optional.of(latest), Optional.of(newer));
+        List<Revision<Integer, Facility>> revisions = List.of(revision("역", 10L, null));
+        given(facilityRevisionRepository.findRevisions(eq(FACILITY_ID), any(Pageable.class)))
+                .willAnswer(invocation -> new PageImpl<>(revisions, invocation.getArgument(1), 1));
+        given(fileService.getFileResponses(any())).willReturn(Map.of(10L, fileResponse(10L)));
+
+        // when
+        facilityService.findFacilityHistories(FACILITY_ID, 0, 20);
+        facilityService.findFacilityHistories(FACILITY_ID, 0, 20);
+        facilityService.findFacilityHistories(FACILITY_ID, 0, 20);
+
+        // then
+        verify(facilityRevisionRepository, times(2)).findRevisions(eq(FACILITY_ID), any(Pageable.class));
+        // 파일 상태와 URL 은 바뀔 수 있으므로 캐시 적중 시에도 매번 조회한다
+        verify(fileService, times(3)).getFileResponses(any());
+    }
+
+    @Test
+    @DisplayName("리비전이 없으면 빈 페이지를 반환하고 이력을 조회하지 않는다")
+    void findFacilityHistories_NoRevision_ReturnsEmptyPage() {
+        // given
+        givenFacilityExists();
+        given(facilityRevisionRepository.findLastChangeRevision(FACILITY_ID)).willReturn(Optional.empty());
+
+        // when
+        PageResponse<FacilityHistoryResponse> result = facilityService.findFacilityHistories(FACILITY_ID, 0, 20);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        assertEquals(0, result.totalElements());
+        verify(facilityRevisionRepository, never()).findRevisions(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 시설의 이력을 조회하면 404 예외가 발생한다")
+    void findFacilityHistories_NotFound() {
+        // given
+        given(facilityRepository.findFacilityTypeById(FACILITY_ID)).willReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> facilityService.findFacilityHistories(FACILITY_ID, 0, 20));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("시설을 삭제하면 현재 파일과 함께 이력에만 남은 이전 도면도 한 번씩 해제한다")
+    void deleteFacility_ReleasesFilesReferencedByHistory() {
+        // given
+        Station station = Station.builder().name("역").build();
+        ReflectionTestUtils.setField(station, "id", FACILITY_ID);
+        ReflectionTestUtils.setField(station, "drawingFileId", 3L);
+        ReflectionTestUtils.setField(station, "thumbnailFileId", 4L);
+        given(facilityRepository.findById(FACILITY_ID)).willReturn(Optional.of(station));
+        List<Revision<Integer, Facility>> revisions = List.of(snapshot(1, 1L, 4L), snapshot(2, 2L, 4L), snapshot(3, 3L, null));
+        given(facilityRevisionRepository.findRevisions(FACILITY_ID)).willReturn(Revisions.of(revisions));
+
+        // when
+        facilityService.deleteFacility(FACILITY_ID);
+
+        // then
+        for (Long fileId : List.of(1L, 2L, 3L, 4L)) {
+            verify(fileService, times(1)).releaseFile(fileId);
+        }
+        verify(fileService, never()).releaseFile(null);
+        verify(facilityRepository).delete(station);
+        verify(featureSpatialIndexService).evict(FACILITY_ID);
+    }
+
+    private void givenFacilityExists() {
+        given(facilityRepository.findFacilityTypeById(FACILITY_ID)).willReturn(Optional.of("STATION"));
+    }
+
+    private void givenLatestRevision(int revisionNumber) {
+        Revision<Integer, Facility> latest = latestRevision(revisionNumber);
+        given(facilityRevisionRepository.findLastChangeRevision(FACILITY_ID)).willReturn(Optional.of(latest));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Revision<Integer, Facility> latestRevision(int revisionNumber) {
+        RevisionMetadata<Integer> metadata = mock(RevisionMetadata.class);
+        given(metadata.getRevisionNumber()).willReturn(Optional.of(revisionNumber));
+        return Revision.<Integer, Facility>of(metadata, Station.builder().name("역").build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Revision<Integer, Facility> revision(String name, Long drawingFileId, Long thumbnailFileId) {
+        Station station = Station.builder().name(name).description("설명").build();
+        ReflectionTestUtils.setField(station, "drawingFileId", drawingFileId);
+        ReflectionTestUtils.setField(station, "thumbnailFileId", thumbnailFileId);
+
+        RevisionMetadata<Integer> metadata = mock(RevisionMetadata.class);
+        given(metadata.getRevisionInstant()).willReturn(Optional.of(Instant.now()));
+        given(metadata.getRevisionType()).willReturn(RevisionMetadata.RevisionType.UPDATE);
+        return Revision.<Integer, Facility>of(metadata, station);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Revision<Integer, Facility> snapshot(int revisionNumber, Long drawingFileId, Long thumbnailFileId) {
+        Station station = Station.builder().name("역").build();
+        ReflectionTestUtils.setField(station, "drawingFileId", drawingFileId);
+        ReflectionTestUtils.setField(station, "thumbnailFileId", thumbnailFileId);
+
+        RevisionMetadata<Integer> metadata = mock(RevisionMetadata.class);
+        // Revisions.of 가 리비전 번호로 정렬할 때만 쓰인다
+        lenient().when(metadata.getRevisionNumber()).thenReturn(Optional.of(revisionNumber));
+        return Revision.<Integer, Facility>of(metadata, station);
+    }
+
+    private FileResponse fileResponse(Long id) {
+        return FileResponse.builder().id(id).url("/files/" + id).build();
+    }
+}
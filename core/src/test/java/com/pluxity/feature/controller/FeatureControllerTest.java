@@ -0,0 +1,127 @@
+package com.pluxity.feature.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.entity.Spatial;
+import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.feature.service.FeatureService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * NDJSON 내보내기는 비동기 스레드에서 자체 트랜잭션으로 실행되므로, 테스트 데이터는 커밋해 두고 끝나면 직접 지웁니다.
+ */
+@SpringBootTest
+class FeatureControllerTest {
+
+    @Autowired
+    private FeatureService featureService;
+
+    @Autowired
+    private FeatureRepository featureRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    private FeatureService targetService;
+
+    private EntityManager originalEntityManager;
+
+    private EntityManager entityManager;
+
+    private List<String> featureIds;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FeatureController(featureService)).build();
+
+        // 청크마다 영속성 컨텍스트를 비우는지 확인하기 위해 실제 EntityManager 에 위임하는 목으로 바꿔 둔다
+        targetService = AopTestUtils.getTargetObject(featureService);
+        originalEntityManager = (EntityManager) ReflectionTestUtils.getField(targetService, "entityManager");
+        entityManager = Mockito.mock(EntityManager.class, AdditionalAnswers.delegatesTo(originalEntityManager));
+        ReflectionTestUtils.setField(targetService, "entityManager", entityManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(targetService, "entityManager", originalEntityManager);
+        if (featureIds != null) {
+            featureRepository.deleteAllByIdInBatch(featureIds);
+        }
+    }
+
+    @Test
+    @DisplayName("Accept 가 NDJSON 이면 청크 크기보다 많은 피처를 한 줄에 하나씩 스트리밍하고 청크마다 영속성 컨텍스트를 비운다")
+    void exportFeatures_StreamsOneObjectPerLine() throws Exception {
+        // given
+        int chunkSize = (int) ReflectionTestUtils.getField(FeatureService.class, "STREAM_CHUNK_SIZE");
+        featureIds = IntStream.range(0, chunkSize + 1)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+        featureRepository.saveAll(featureIds.stream()
+                .map(id -> Feature.builder()
+                        .id(id)
+                        .position(new Spatial(0.0, 0.0, 0.0))
+                        .floorId("1")
+                        .build())
+                .toList());
+        long total = featureRepository.count();
+
+        // when
+        MvcResult started = mockMvc.perform(get("/features").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // then
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        List<String> lines = body.lines().toList();
+        assertEquals(total, lines.size());
+
+        Set<String> exportedIds = new HashSet<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertTrue(node.isObject());
+            exportedIds.add(node.get("id").asText());
+        }
+        assertTrue(exportedIds.containsAll(featureIds));
+
+        long chunks = (total + chunkSize - 1) / chunkSize;
+        Mockito.verify(entityManager, Mockito.times((int) chunks)).clear();
+    }
+}
@@ -7,20 +7,29 @@ import com.pluxity.device.entity.Device;
 import com.pluxity.facility.facility.FacilityRepository;
 import com.pluxity.facility.facility.FacilityService;
 import com.pluxity.facility.station.Station;
+import com.pluxity.feature.dto.FeatureBulkRequest;
+import com.pluxity.feature.dto.FeatureBulkResponse;
+import com.pluxity.feature.dto.FeatureBulkResult;
 import com.pluxity.feature.dto.FeatureCreateRequest;
 import com.pluxity.feature.dto.FeatureResponse;
+import com.pluxity.feature.dto.FeatureSearchCondition;
+import com.pluxity.feature.dto.FeatureSliceResponse;
 import com.pluxity.feature.dto.FeatureUpdateRequest;
 import com.pluxity.feature.entity.Feature;
 import com.pluxity.feature.entity.Spatial;
 import com.pluxity.feature.repository.FeatureRepository;
+import com.pluxity.file.entity.FileEntity;
+import com.pluxity.file.repository.FileRepository;
 import com.pluxity.file.service.FileService;
 import com.pluxity.global.exception.CustomException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.AopTestUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -218,7 +227,76 @@ class FeatureServiceTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
         assertEquals("Feature not found", exception.getCodeName());
     }
+
+    @Test
+    @DisplayName("피처 ETag는 상태가 같으면 동일하고, 목록 ETag는 피처 추가 시 변경된다")
+    void getFeatureETag_ReflectsFeatureVersion() {
+        // given
+        Station facility = createAndSaveTestFacility();
+        String featureId = UUID.randomUUID().toString();
+        featureRepository.save(
+                Feature.builder().id(featureId).facility(facility).floorId("1").build());
+        String collectionETag = featureService.getFeaturesETag();
+
+        // when
+        String eTag = featureService.getFeatureETag(featureId);
+        featureRepository.save(
+                Feature.builder().id(UUID.randomUUID().toString()).facility(facility).floorId("1").build());
+
+        // then
+        assertTrue(eTag.startsWith("W/\""));
+        assertEquals(eTag, featureService.getFeatureETag(featureId));
+        assertNull(featureService.getFeatureETag("non-existing-feature-uuid"));
+        assertNotEquals(collectionETag, featureService.getFeaturesETag());
+    }
     
+    @Test
+    @DisplayName("에셋 파일의 영구 저장이 끝나면 피처 ETag가 변경된다")
+    void getFeatureETag_ChangesWhenAssetFileFinishes() {
+        // given
+        FileEntity file = saveTestFile("etag-asset");
+        file.markProcessing();
+        Asset asset = createAndSaveTestAsset();
+        asset.updateFileId(file.getId());
+        String featureId = UUID.randomUUID().toString();
+        featureRepository.save(
+                Feature.builder().id(featureId).asset(asset).facility(createAndSaveTestFacility()).floorId("1").build());
+        assetRepository.flush();
+        String eTag = featureService.getFeatureETag(featureId);
+        String collectionETag = featureService.getFeaturesETag();
+
+        // when
+        file.markFailed();
+        assetRepository.flush();
+
+        // then
+        assertNotEquals(eTag, featureService.getFeatureETag(featureId));
+        assertNotEquals(collectionETag, featureService.getFeaturesETag());
+    }
+
+    @Test
+    @DisplayName("근접 조회 개수나 반경이 범위를 벗어나면 예외가 발생한다")
+    void findNearby_InvalidArguments_ThrowsBadRequest() {
+        // given
+        String featureId = UUID.randomUUID().toString();
+        featureRepository.save(Feature.builder()
+                .id(featureId)
+                .position(new Spatial(0.0, 0.0, 0.0))
+                .facility(createAndSaveTestFacility())
+                .floorId("1")
+                .build());
+
+        // when & then
+        for (int k : new int[] {0, -1, Integer.MAX_VALUE}) {
+            CustomException exception =
+                    assertThrows(CustomException.class, () -> featureService.findNearestFeatures(featureId, k));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        }
+        CustomException exception =
+                assertThrows(CustomException.class, () -> featureService.findFeaturesWithinRadius(featureId, -1.0));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
     @Test
     @DisplayName("피처 목록 조회 시 피처 목록이 반환된다")
     void getFeatures_ReturnsListOfFeatures() {
@@ -870,4 +948,161 @@ class FeatureServiceTest {
             ReflectionTestUtils.setField(featureService, "featureRepository", originalRepo);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("피처 목록 조회 시 파일 정보는 피처 수와 무관하게 한 번의 IN 쿼리로 조회된다")
+    void getFeatures_ResolvesFilesWithSingleInQuery() {
+        // given
+        FileRepository fileRepository = (FileRepository) ReflectionTestUtils.getField(
+                AopTestUtils.getTargetObject(fileService), "repository");
+        Station facility = createAndSaveTestFacility();
+        facility.updateDrawingFileId(saveTestFile("drawing").getId());
+        facility.updateThumbnailFileId(saveTestFile("facility-thumbnail").getId());
+
+        int featureCount = 10;
+        for (int i = 0; i < featureCount; i++) {
+            Asset asset = assetRepository.save(
+                    Asset.builder()
+                            .name("Query Asset " + i)
+                            .code("Q" + i)
+                            .fileId(saveTestFile("asset-" + i).getId())
+                            .thumbnailFileId(saveTestFile("asset-thumbnail-" + i).getId())
+                            .build());
+            featureRepository.save(Feature.builder()
+                    .id(UUID.randomUUID().toString())
+                    .asset(asset)
+                    .facility(facility)
+                    .floorId("1")
+                    .build());
+        }
+
+        FileRepository spyRepository = Mockito.mock(
+                FileRepository.class, AdditionalAnswers.delegatesTo(fileRepository));
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(fileService), "repository", spyRepository);
+
+        try {
+            // when
+            List<FeatureResponse> responses = featureService.getFeatures();
+
+            // then
+            assertTrue(responses.size() >= featureCount);
+            assertTrue(responses.stream()
+                    .filter(response -> response.asset() != null)
+                    .allMatch(response -> response.asset().file().id() != null));
+            Mockito.verify(spyRepository, Mockito.times(1)).findAllById(Mockito.anyIterable());
+            Mockito.verify(spyRepository, Mockito.never()).findById(Mockito.anyLong());
+        } finally {
+            ReflectionTestUtils.setField(AopTestUtils.getTargetObject(fileService), "repository", fileRepository);
+        }
+    }
+
+    @Test
+    @DisplayName("시설/층/좌표 범위 조회 시 ID 기준 키셋 페이지로 반환된다")
+    void searchFeatures_ReturnsKeysetPagesWithinBounds() {
+        // given
+        Asset asset = createAndSaveTestAsset();
+        Station facility = createAndSaveTestFacility();
+        for (int i = 0; i < 5; i++) {
+            featureRepository.save(Feature.builder()
+                    .id("search-feature-" + i)
+                    .position(new Spatial((double) i, 0.0, 0.0))
+                    .asset(asset)
+                    .facility(facility)
+                    .floorId("1")
+                    .build());
+        }
+        featureRepository.save(Feature.builder()
+                .id("search-feature-other-floor")
+                .position(new Spatial(1.0, 0.0, 0.0))
+                .facility(facility)
+                .floorId("2")
+                .build());
+
+        // when
+        FeatureSliceResponse first = featureService.searchFeatures(new FeatureSearchCondition(
+                facility.getId(), "1", 1.0, 3.0, null, null, null, null, null, 2));
+        FeatureSliceResponse second = featureService.searchFeatures(new FeatureSearchCondition(
+                facility.getId(), "1", 1.0, 3.0, null, null, null, null, first.nextCursor(), 2));
+
+        // then
+        assertEquals(List.of("search-feature-1", "search-feature-2"),
+                first.features().stream().map(FeatureResponse::id).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("search-feature-3"),
+                second.features().stream().map(FeatureResponse::id).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("피처 대량 등록 시 신규/기존/실패 항목별 결과가 반환된다")
+    void upsertFeatures_ReturnsPerItemResults() {
+        // given
+        Asset asset = createAndSaveTestAsset();
+        Station facility = createAndSaveTestFacility();
+        featureRepository.save(Feature.builder()
+                .id("bulk-existing")
+                .position(new Spatial(0.0, 0.0, 0.0))
+                .asset(asset)
+                .facility(facility)
+                .floorId("1")
+                .build());
+
+        Spatial position = new Spatial(5.0, 0.0, 5.0);
+        FeatureBulkRequest request = new FeatureBulkRequest(List.of(
+                new FeatureCreateRequest("bulk-new", position, null, null, asset.getId(), facility.getId(), "1"),
+                new FeatureCreateRequest("bulk-existing", position, null, null, asset.getId(), facility.getId(), "1"),
+                new FeatureCreateRequest("bulk-invalid", position, null, null, -1L, facility.getId(), "1"),
+                new FeatureCreateRequest("bulk-new", position, null, null, asset.getId(), facility.getId(), "1")));
+
+        // when
+        FeatureBulkResponse response = featureService.upsertFeatures(request);
+
+        // then
+        assertEquals(1, response.created());
+        assertEquals(1, response.updated());
+        assertEquals(2, response.failed());
+        assertEquals(FeatureBulkResult.Status.CREATED, response.results().get(0).status());
+        assertEquals(FeatureBulkResult.Status.UPDATED, response.results().get(1).status());
+        assertEquals(FeatureBulkResult.Status.FAILED, response.results().get(2).status());
+        assertEquals(FeatureBulkResult.Status.FAILED, response.results().get(3).status());
+
+        Feature created = featureRepository.findById("bulk-new").orElseThrow();
+        assertEquals(facility.getId(), created.getFacility().getId());
+        assertEquals(asset.getId(), created.getAsset().getId());
+        assertEquals(5.0, featureRepository.findById("bulk-existing").orElseThrow().getPosition().getX());
+        assertFalse(featureRepository.findById("bulk-invalid").isPresent());
+    }
+
+    @Test
+    @DisplayName("유한하지 않거나 범위를 벗어난 위치 좌표는 저장 전에 거부된다")
+    void createAndUpsertFeature_NonFiniteCoordinates_AreRejected() {
+        // given
+        Asset asset = createAndSaveTestAsset();
+        Station facility = createAndSaveTestFacility();
+        Spatial infinite = new Spatial(Double.POSITIVE_INFINITY, 0.0, 0.0);
+        Spatial huge = new Spatial(0.0, Double.MAX_VALUE, 0.0);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> featureService.createFeature(
+                new FeatureCreateRequest("bad-create", infinite, null, null, asset.getId(), facility.getId(), "1")));
+        FeatureBulkResponse response = featureService.upsertFeatures(new FeatureBulkRequest(List.of(
+                new FeatureCreateRequest("bad-upsert", huge, null, null, asset.getId(), facility.getId(), "1"))));
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        assertEquals(FeatureBulkResult.Status.FAILED, response.results().get(0).status());
+        assertFalse(featureRepository.findById("bad-create").isPresent());
+        assertFalse(featureRepository.findById("bad-upsert").isPresent());
+    }
+
+    private FileEntity saveTestFile(String name) {
+        FileRepository fileRepository = (FileRepository) ReflectionTestUtils.getField(
+                AopTestUtils.getTargetObject(fileService), "repository");
+        return fileRepository.save(FileEntity.builder()
+                .filePath("test/" + UUID.randomUUID() + "/" + name + ".png")
+                .originalFileName(name + ".png")
+                .contentType("image/png")
+                .build());
+    }
+}
@@ -0,0 +1,140 @@
+package com.pluxity.feature.service;
+
+import com.pluxity.facility.station.Station;
+import com.pluxity.feature.dto.FeatureDistanceResponse;
+import com.pluxity.feature.dto.FeaturePosition;
+import com.pluxity.feature.entity.Feature;
+import com.pluxity.feature.entity.Spatial;
+import com.pluxity.feature.repository.FeatureRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureSpatialIndexServiceTest {
+
+    private static final Long FACILITY_ID = 1L;
+    private static final String FLOOR_ID = "1F";
+
+    @Mock
+    private FeatureRepository featureRepository;
+
+    private FeatureSpatialIndexService indexService;
+
+    private Station station;
+
+    @BeforeEach
+    void setUp() {
+        indexService = new FeatureSpatialIndexService(featureRepository, new SimpleMeterRegistry(), 1_000_000);
+        station = Station.builder().name("인덱스 역").description("설명").build();
+        ReflectionTestUtils.setField(station, "id", FACILITY_ID);
+    }
+
+    @Test
+    @DisplayName("로드 중에 들어온 변경은 스냅샷을 버리고 다시 로드해 반영한다")
+    void read_WriteDuringLoad_ReloadsSnapshot() {
+        // given
+        Feature added = feature("added", 1.0);
+        given(featureRepository.findPositions(FACILITY_ID, FLOOR_ID))
+                .willAnswer(invocation -> {
+                    // 첫 스냅샷을 읽는 동안 다른 트랜잭션이 커밋되어 변경이 반영된다
+                    indexService.index(added);
+                    return List.of(new FeaturePosition("existing", 0.0, 0.0, 0.0));
+                })
+                .willReturn(List.of(
+                        new FeaturePosition("existing", 0.0, 0.0, 0.0),
+                        new FeaturePosition("added", 1.0, 0.0, 0.0)));
+
+        // when
+        List<FeatureDistanceResponse> first = indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+        List<FeatureDistanceResponse> second = indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+
+        // then
+        assertThat(first).extracting(FeatureDistanceResponse::id).containsExactly("existing", "added");
+        assertThat(second).extracting(FeatureDistanceResponse::id).containsExactly("existing", "added");
+        verify(featureRepository, times(2)).findPositions(FACILITY_ID, FLOOR_ID);
+    }
+
+    @Test
+    @DisplayName("게시된 인덱스에는 이후 변경이 바로 반영된다")
+    void write_AfterLoad_UpdatesPublishedIndex() {
+        // given
+        given(featureRepository.findPositions(FACILITY_ID, FLOOR_ID))
+                .willReturn(List.of(new FeaturePosition("existing", 0.0, 0.0, 0.0)));
+        indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+
+        // when
+        indexService.index(feature("added", 2.0));
+        indexService.remove(feature("existing", 0.0));
+        List<FeatureDistanceResponse> result = indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+
+        // then
+        assertThat(result).extracting(FeatureDistanceResponse::id).containsExactly("added");
+        verify(featureRepository, times(1)).findPositions(FACILITY_ID, FLOOR_ID);
+    }
+
+    @Test
+    @DisplayName("로드 중에 시설이 삭제되면 삭제 이전 스냅샷을 게시하지 않는다")
+    void evict_DuringLoad_DiscardsSnapshot() {
+        // given
+        given(featureRepository.findPositions(FACILITY_ID, FLOOR_ID))
+                .willAnswer(invocation -> {
+                    // 첫 스냅샷을 읽는 동안 시설 삭제가 커밋된다
+                    indexService.evict(FACILITY_ID);
+                    return List.of(new FeaturePosition("existing", 0.0, 0.0, 0.0));
+                })
+                .willReturn(List.of());
+
+        // when
+        List<FeatureDistanceResponse> result = indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(featureRepository, times(2)).findPositions(FACILITY_ID, FLOOR_ID);
+    }
+
+    @Test
+    @DisplayName("시설을 제거하면 인덱스와 세대가 함께 정리되고, 로드되지 않은 층의 변경은 세대를 남기지 않는다")
+    void evict_RemovesIndexAndGeneration() {
+        // given
+        given(featureRepository.findPositions(FACILITY_ID, FLOOR_ID))
+                .willReturn(List.of(new FeaturePosition("existing", 0.0, 0.0, 0.0)));
+        indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+
+        // when
+        indexService.evict(FACILITY_ID);
+        indexService.index(feature("added", 1.0));
+
+        // then
+        assertThat(generations()).isEmpty();
+        indexService.findNearest(FACILITY_ID, FLOOR_ID, 0, 0, 0, 10);
+        verify(featureRepository, times(2)).findPositions(FACILITY_ID, FLOOR_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> generations() {
+        return (Map<Object, Object>) ReflectionTestUtils.getField(indexService, "generations");
+    }
+
+    private Feature feature(String id, double x) {
+        return Feature.builder()
+                .id(id)
+                .position(new Spatial(x, 0.0, 0.0))
+                .facility(station)
+                .floorId(FLOOR_ID)
+                .build();
+    }
+}
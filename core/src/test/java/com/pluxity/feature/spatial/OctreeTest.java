@@ -0,0 +1,109 @@
+package com.pluxity.feature.spatial;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OctreeTest {
+
+    @Test
+    @DisplayName("반경 조회 결과는 전수 비교 결과와 일치한다")
+    void withinRadius_MatchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        Octree octree = new Octree();
+        Map<String, double[]> points = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            double[] point = {random.nextDouble() * 400 - 200, random.nextInt(4), random.nextDouble() * 200};
+            octree.put("f" + i, point[0], point[1], point[2]);
+            points.put("f" + i, point);
+        }
+
+        // when
+        List<Octree.Neighbor> result = octree.withinRadius(10.0, 1.0, 100.0, 25.0);
+
+        // then
+        long expected = points.values().stream()
+                .filter(point -> distance(point, 10.0, 1.0, 100.0) <= 25.0)
+                .count();
+        assertEquals(expected, result.size());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).distance() <= result.get(i).distance());
+        }
+    }
+
+    @Test
+    @DisplayName("k-최근접 조회 결과는 가장 가까운 k개의 점이다")
+    void nearest_ReturnsClosestPoints() {
+        // given
+        Random random = new Random(7);
+        Octree octree = new Octree();
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            double[] point = {random.nextDouble() * 1000, random.nextDouble() * 10, random.nextDouble() * 1000};
+            octree.put("f" + i, point[0], point[1], point[2]);
+            points.add(point);
+        }
+
+        // when
+        List<Octree.Neighbor> result = octree.nearest(500.0, 5.0, 500.0, 5);
+
+        // then
+        List<Double> expected = points.stream()
+                .map(point -> distance(point, 500.0, 5.0, 500.0))
+                .sorted(Comparator.naturalOrder())
+                .limit(5)
+                .toList();
+        assertEquals(expected, result.stream().map(Octree.Neighbor::distance).toList());
+    }
+
+    @Test
+    @DisplayName("이동 및 삭제된 점은 이전 위치에서 조회되지 않는다")
+    void putAndRemove_UpdatesIndex() {
+        // given
+        Octree octree = new Octree();
+        octree.put("a", 0.0, 0.0, 0.0);
+        octree.put("b", 1.0, 0.0, 0.0);
+
+        // when
+        octree.put("a", 100.0, 0.0, 0.0);
+        octree.remove("b");
+
+        // then
+        assertEquals(1, octree.size());
+        assertTrue(octree.withinRadius(0.0, 0.0, 0.0, 5.0).isEmpty());
+        assertEquals("a", octree.nearest(0.0, 0.0, 0.0, 1).get(0).id());
+    }
+
+    @Test
+    @DisplayName("범위 끝의 좌표는 루트를 확장해 담고, 범위를 벗어나거나 유한하지 않은 좌표는 거부한다")
+    void put_ExtremeCoordinates() {
+        // given
+        Octree octree = new Octree();
+
+        // when
+        octree.put("min", -Octree.MAX_COORDINATE, -Octree.MAX_COORDINATE, -Octree.MAX_COORDINATE);
+        octree.put("max", Octree.MAX_COORDINATE, Octree.MAX_COORDINATE, Octree.MAX_COORDINATE);
+
+        // then
+        assertEquals("max", octree.nearest(Octree.MAX_COORDINATE, 0.0, 0.0, 1).get(0).id());
+        assertThrows(IllegalArgumentException.class, () -> octree.put("huge", Double.MAX_VALUE, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> octree.put("nan", Double.NaN, 0.0, 0.0));
+        assertEquals(2, octree.size());
+    }
+
+    private static double distance(double[] point, double x, double y, double z) {
+        double dx = point[0] - x;
+        double dy = point[1] - y;
+        double dz = point[2] - z;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+}